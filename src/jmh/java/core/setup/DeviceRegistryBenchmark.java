@@ -0,0 +1,55 @@
+package core.setup;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.remote.DesiredCapabilities;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per scenario cost of getting the capabilities of a device. parsePerScenario is what
+ * Config.setCapabilities did before DeviceRegistry: open devices.json, parse all of it and build
+ * the capabilities of one device. registryLookup is the map lookup it does now.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DeviceRegistryBenchmark {
+  private static final Type MAP_TYPE = new TypeToken<HashMap<String, Object>>() {}.getType();
+
+  @Param({"chrome", "firefox"})
+  public String deviceName;
+
+  @Benchmark
+  public Capabilities parsePerScenario() throws IOException {
+    try (InputStream file = getClass().getResourceAsStream("/jsonData/devices.json");
+        Reader reader = new InputStreamReader(file, StandardCharsets.UTF_8)) {
+      JsonElement device = new JsonParser().parse(reader).getAsJsonObject().get(deviceName);
+      Map<String, Object> capabilities = new Gson().fromJson(device, MAP_TYPE);
+      return new DesiredCapabilities(capabilities);
+    }
+  }
+
+  @Benchmark
+  public Capabilities registryLookup() {
+    return DeviceRegistry.get(deviceName);
+  }
+}
@@ -0,0 +1,55 @@
+package core.test.pages.base;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import static core.utilities.Tools.toCamelCase;
+
+/**
+ * Cost of resolving an element of a page with 300 fields by its step name. reflectivePerCall is
+ * what getField did before ElementIndex: camel case the name, look up the declared field and make
+ * it accessible on every call. indexLookup is the ElementIndex lookup getField does now.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ElementIndexBenchmark {
+
+  @Param({"element 0", "element 150", "element 299"})
+  public String name;
+
+  private PageObjectBase page;
+
+  /** the page is allocated without running its constructor, which needs a browser */
+  @Setup
+  public void setUp() throws ReflectiveOperationException {
+    Class<?> unsafeType = Class.forName("sun.misc.Unsafe");
+    Field theUnsafe = unsafeType.getDeclaredField("theUnsafe");
+    theUnsafe.setAccessible(true);
+    Object unsafe = theUnsafe.get(null);
+    page =
+        (PageObjectBase)
+            unsafeType.getMethod("allocateInstance", Class.class).invoke(unsafe, LargePage.class);
+  }
+
+  @Benchmark
+  public Object reflectivePerCall() throws ReflectiveOperationException {
+    Field field = page.getClass().getDeclaredField(toCamelCase(name));
+    field.setAccessible(true);
+    return field.get(page);
+  }
+
+  @Benchmark
+  public Object indexLookup() {
+    return ElementIndex.of(page.getClass()).get(page, name);
+  }
+}
@@ -0,0 +1,914 @@
+package core.test.pages.base;
+
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+
+/** page with 300 element fields for ElementIndexBenchmark */
+public class LargePage extends PageObjectBase {
+
+  @FindBy(id = "element0")
+  private WebElement element0;
+
+  @FindBy(id = "element1")
+  private WebElement element1;
+
+  @FindBy(id = "element2")
+  private WebElement element2;
+
+  @FindBy(id = "element3")
+  private WebElement element3;
+
+  @FindBy(id = "element4")
+  private WebElement element4;
+
+  @FindBy(id = "element5")
+  private WebElement element5;
+
+  @FindBy(id = "element6")
+  private WebElement element6;
+
+  @FindBy(id = "element7")
+  private WebElement element7;
+
+  @FindBy(id = "element8")
+  private WebElement element8;
+
+  @FindBy(id = "element9")
+  private WebElement element9;
+
+  @FindBy(id = "element10")
+  private WebElement element10;
+
+  @FindBy(id = "element11")
+  private WebElement element11;
+
+  @FindBy(id = "element12")
+  private WebElement element12;
+
+  @FindBy(id = "element13")
+  private WebElement element13;
+
+  @FindBy(id = "element14")
+  private WebElement element14;
+
+  @FindBy(id = "element15")
+  private WebElement element15;
+
+  @FindBy(id = "element16")
+  private WebElement element16;
+
+  @FindBy(id = "element17")
+  private WebElement element17;
+
+  @FindBy(id = "element18")
+  private WebElement element18;
+
+  @FindBy(id = "element19")
+  private WebElement element19;
+
+  @FindBy(id = "element20")
+  private WebElement element20;
+
+  @FindBy(id = "element21")
+  private WebElement element21;
+
+  @FindBy(id = "element22")
+  private WebElement element22;
+
+  @FindBy(id = "element23")
+  private WebElement element23;
+
+  @FindBy(id = "element24")
+  private WebElement element24;
+
+  @FindBy(id = "element25")
+  private WebElement element25;
+
+  @FindBy(id = "element26")
+  private WebElement element26;
+
+  @FindBy(id = "element27")
+  private WebElement element27;
+
+  @FindBy(id = "element28")
+  private WebElement element28;
+
+  @FindBy(id = "element29")
+  private WebElement element29;
+
+  @FindBy(id = "element30")
+  private WebElement element30;
+
+  @FindBy(id = "element31")
+  private WebElement element31;
+
+  @FindBy(id = "element32")
+  private WebElement element32;
+
+  @FindBy(id = "element33")
+  private WebElement element33;
+
+  @FindBy(id = "element34")
+  private WebElement element34;
+
+  @FindBy(id = "element35")
+  private WebElement element35;
+
+  @FindBy(id = "element36")
+  private WebElement element36;
+
+  @FindBy(id = "element37")
+  private WebElement element37;
+
+  @FindBy(id = "element38")
+  private WebElement element38;
+
+  @FindBy(id = "element39")
+  private WebElement element39;
+
+  @FindBy(id = "element40")
+  private WebElement element40;
+
+  @FindBy(id = "element41")
+  private WebElement element41;
+
+  @FindBy(id = "element42")
+  private WebElement element42;
+
+  @FindBy(id = "element43")
+  private WebElement element43;
+
+  @FindBy(id = "element44")
+  private WebElement element44;
+
+  @FindBy(id = "element45")
+  private WebElement element45;
+
+  @FindBy(id = "element46")
+  private WebElement element46;
+
+  @FindBy(id = "element47")
+  private WebElement element47;
+
+  @FindBy(id = "element48")
+  private WebElement element48;
+
+  @FindBy(id = "element49")
+  private WebElement element49;
+
+  @FindBy(id = "element50")
+  private WebElement element50;
+
+  @FindBy(id = "element51")
+  private WebElement element51;
+
+  @FindBy(id = "element52")
+  private WebElement element52;
+
+  @FindBy(id = "element53")
+  private WebElement element53;
+
+  @FindBy(id = "element54")
+  private WebElement element54;
+
+  @FindBy(id = "element55")
+  private WebElement element55;
+
+  @FindBy(id = "element56")
+  private WebElement element56;
+
+  @FindBy(id = "element57")
+  private WebElement element57;
+
+  @FindBy(id = "element58")
+  private WebElement element58;
+
+  @FindBy(id = "element59")
+  private WebElement element59;
+
+  @FindBy(id = "element60")
+  private WebElement element60;
+
+  @FindBy(id = "element61")
+  private WebElement element61;
+
+  @FindBy(id = "element62")
+  private WebElement element62;
+
+  @FindBy(id = "element63")
+  private WebElement element63;
+
+  @FindBy(id = "element64")
+  private WebElement element64;
+
+  @FindBy(id = "element65")
+  private WebElement element65;
+
+  @FindBy(id = "element66")
+  private WebElement element66;
+
+  @FindBy(id = "element67")
+  private WebElement element67;
+
+  @FindBy(id = "element68")
+  private WebElement element68;
+
+  @FindBy(id = "element69")
+  private WebElement element69;
+
+  @FindBy(id = "element70")
+  private WebElement element70;
+
+  @FindBy(id = "element71")
+  private WebElement element71;
+
+  @FindBy(id = "element72")
+  private WebElement element72;
+
+  @FindBy(id = "element73")
+  private WebElement element73;
+
+  @FindBy(id = "element74")
+  private WebElement element74;
+
+  @FindBy(id = "element75")
+  private WebElement element75;
+
+  @FindBy(id = "element76")
+  private WebElement element76;
+
+  @FindBy(id = "element77")
+  private WebElement element77;
+
+  @FindBy(id = "element78")
+  private WebElement element78;
+
+  @FindBy(id = "element79")
+  private WebElement element79;
+
+  @FindBy(id = "element80")
+  private WebElement element80;
+
+  @FindBy(id = "element81")
+  private WebElement element81;
+
+  @FindBy(id = "element82")
+  private WebElement element82;
+
+  @FindBy(id = "element83")
+  private WebElement element83;
+
+  @FindBy(id = "element84")
+  private WebElement element84;
+
+  @FindBy(id = "element85")
+  private WebElement element85;
+
+  @FindBy(id = "element86")
+  private WebElement element86;
+
+  @FindBy(id = "element87")
+  private WebElement element87;
+
+  @FindBy(id = "element88")
+  private WebElement element88;
+
+  @FindBy(id = "element89")
+  private WebElement element89;
+
+  @FindBy(id = "element90")
+  private WebElement element90;
+
+  @FindBy(id = "element91")
+  private WebElement element91;
+
+  @FindBy(id = "element92")
+  private WebElement element92;
+
+  @FindBy(id = "element93")
+  private WebElement element93;
+
+  @FindBy(id = "element94")
+  private WebElement element94;
+
+  @FindBy(id = "element95")
+  private WebElement element95;
+
+  @FindBy(id = "element96")
+  private WebElement element96;
+
+  @FindBy(id = "element97")
+  private WebElement element97;
+
+  @FindBy(id = "element98")
+  private WebElement element98;
+
+  @FindBy(id = "element99")
+  private WebElement element99;
+
+  @FindBy(id = "element100")
+  private WebElement element100;
+
+  @FindBy(id = "element101")
+  private WebElement element101;
+
+  @FindBy(id = "element102")
+  private WebElement element102;
+
+  @FindBy(id = "element103")
+  private WebElement element103;
+
+  @FindBy(id = "element104")
+  private WebElement element104;
+
+  @FindBy(id = "element105")
+  private WebElement element105;
+
+  @FindBy(id = "element106")
+  private WebElement element106;
+
+  @FindBy(id = "element107")
+  private WebElement element107;
+
+  @FindBy(id = "element108")
+  private WebElement element108;
+
+  @FindBy(id = "element109")
+  private WebElement element109;
+
+  @FindBy(id = "element110")
+  private WebElement element110;
+
+  @FindBy(id = "element111")
+  private WebElement element111;
+
+  @FindBy(id = "element112")
+  private WebElement element112;
+
+  @FindBy(id = "element113")
+  private WebElement element113;
+
+  @FindBy(id = "element114")
+  private WebElement element114;
+
+  @FindBy(id = "element115")
+  private WebElement element115;
+
+  @FindBy(id = "element116")
+  private WebElement element116;
+
+  @FindBy(id = "element117")
+  private WebElement element117;
+
+  @FindBy(id = "element118")
+  private WebElement element118;
+
+  @FindBy(id = "element119")
+  private WebElement element119;
+
+  @FindBy(id = "element120")
+  private WebElement element120;
+
+  @FindBy(id = "element121")
+  private WebElement element121;
+
+  @FindBy(id = "element122")
+  private WebElement element122;
+
+  @FindBy(id = "element123")
+  private WebElement element123;
+
+  @FindBy(id = "element124")
+  private WebElement element124;
+
+  @FindBy(id = "element125")
+  private WebElement element125;
+
+  @FindBy(id = "element126")
+  private WebElement element126;
+
+  @FindBy(id = "element127")
+  private WebElement element127;
+
+  @FindBy(id = "element128")
+  private WebElement element128;
+
+  @FindBy(id = "element129")
+  private WebElement element129;
+
+  @FindBy(id = "element130")
+  private WebElement element130;
+
+  @FindBy(id = "element131")
+  private WebElement element131;
+
+  @FindBy(id = "element132")
+  private WebElement element132;
+
+  @FindBy(id = "element133")
+  private WebElement element133;
+
+  @FindBy(id = "element134")
+  private WebElement element134;
+
+  @FindBy(id = "element135")
+  private WebElement element135;
+
+  @FindBy(id = "element136")
+  private WebElement element136;
+
+  @FindBy(id = "element137")
+  private WebElement element137;
+
+  @FindBy(id = "element138")
+  private WebElement element138;
+
+  @FindBy(id = "element139")
+  private WebElement element139;
+
+  @FindBy(id = "element140")
+  private WebElement element140;
+
+  @FindBy(id = "element141")
+  private WebElement element141;
+
+  @FindBy(id = "element142")
+  private WebElement element142;
+
+  @FindBy(id = "element143")
+  private WebElement element143;
+
+  @FindBy(id = "element144")
+  private WebElement element144;
+
+  @FindBy(id = "element145")
+  private WebElement element145;
+
+  @FindBy(id = "element146")
+  private WebElement element146;
+
+  @FindBy(id = "element147")
+  private WebElement element147;
+
+  @FindBy(id = "element148")
+  private WebElement element148;
+
+  @FindBy(id = "element149")
+  private WebElement element149;
+
+  @FindBy(id = "element150")
+  private WebElement element150;
+
+  @FindBy(id = "element151")
+  private WebElement element151;
+
+  @FindBy(id = "element152")
+  private WebElement element152;
+
+  @FindBy(id = "element153")
+  private WebElement element153;
+
+  @FindBy(id = "element154")
+  private WebElement element154;
+
+  @FindBy(id = "element155")
+  private WebElement element155;
+
+  @FindBy(id = "element156")
+  private WebElement element156;
+
+  @FindBy(id = "element157")
+  private WebElement element157;
+
+  @FindBy(id = "element158")
+  private WebElement element158;
+
+  @FindBy(id = "element159")
+  private WebElement element159;
+
+  @FindBy(id = "element160")
+  private WebElement element160;
+
+  @FindBy(id = "element161")
+  private WebElement element161;
+
+  @FindBy(id = "element162")
+  private WebElement element162;
+
+  @FindBy(id = "element163")
+  private WebElement element163;
+
+  @FindBy(id = "element164")
+  private WebElement element164;
+
+  @FindBy(id = "element165")
+  private WebElement element165;
+
+  @FindBy(id = "element166")
+  private WebElement element166;
+
+  @FindBy(id = "element167")
+  private WebElement element167;
+
+  @FindBy(id = "element168")
+  private WebElement element168;
+
+  @FindBy(id = "element169")
+  private WebElement element169;
+
+  @FindBy(id = "element170")
+  private WebElement element170;
+
+  @FindBy(id = "element171")
+  private WebElement element171;
+
+  @FindBy(id = "element172")
+  private WebElement element172;
+
+  @FindBy(id = "element173")
+  private WebElement element173;
+
+  @FindBy(id = "element174")
+  private WebElement element174;
+
+  @FindBy(id = "element175")
+  private WebElement element175;
+
+  @FindBy(id = "element176")
+  private WebElement element176;
+
+  @FindBy(id = "element177")
+  private WebElement element177;
+
+  @FindBy(id = "element178")
+  private WebElement element178;
+
+  @FindBy(id = "element179")
+  private WebElement element179;
+
+  @FindBy(id = "element180")
+  private WebElement element180;
+
+  @FindBy(id = "element181")
+  private WebElement element181;
+
+  @FindBy(id = "element182")
+  private WebElement element182;
+
+  @FindBy(id = "element183")
+  private WebElement element183;
+
+  @FindBy(id = "element184")
+  private WebElement element184;
+
+  @FindBy(id = "element185")
+  private WebElement element185;
+
+  @FindBy(id = "element186")
+  private WebElement element186;
+
+  @FindBy(id = "element187")
+  private WebElement element187;
+
+  @FindBy(id = "element188")
+  private WebElement element188;
+
+  @FindBy(id = "element189")
+  private WebElement element189;
+
+  @FindBy(id = "element190")
+  private WebElement element190;
+
+  @FindBy(id = "element191")
+  private WebElement element191;
+
+  @FindBy(id = "element192")
+  private WebElement element192;
+
+  @FindBy(id = "element193")
+  private WebElement element193;
+
+  @FindBy(id = "element194")
+  private WebElement element194;
+
+  @FindBy(id = "element195")
+  private WebElement element195;
+
+  @FindBy(id = "element196")
+  private WebElement element196;
+
+  @FindBy(id = "element197")
+  private WebElement element197;
+
+  @FindBy(id = "element198")
+  private WebElement element198;
+
+  @FindBy(id = "element199")
+  private WebElement element199;
+
+  @FindBy(id = "element200")
+  private WebElement element200;
+
+  @FindBy(id = "element201")
+  private WebElement element201;
+
+  @FindBy(id = "element202")
+  private WebElement element202;
+
+  @FindBy(id = "element203")
+  private WebElement element203;
+
+  @FindBy(id = "element204")
+  private WebElement element204;
+
+  @FindBy(id = "element205")
+  private WebElement element205;
+
+  @FindBy(id = "element206")
+  private WebElement element206;
+
+  @FindBy(id = "element207")
+  private WebElement element207;
+
+  @FindBy(id = "element208")
+  private WebElement element208;
+
+  @FindBy(id = "element209")
+  private WebElement element209;
+
+  @FindBy(id = "element210")
+  private WebElement element210;
+
+  @FindBy(id = "element211")
+  private WebElement element211;
+
+  @FindBy(id = "element212")
+  private WebElement element212;
+
+  @FindBy(id = "element213")
+  private WebElement element213;
+
+  @FindBy(id = "element214")
+  private WebElement element214;
+
+  @FindBy(id = "element215")
+  private WebElement element215;
+
+  @FindBy(id = "element216")
+  private WebElement element216;
+
+  @FindBy(id = "element217")
+  private WebElement element217;
+
+  @FindBy(id = "element218")
+  private WebElement element218;
+
+  @FindBy(id = "element219")
+  private WebElement element219;
+
+  @FindBy(id = "element220")
+  private WebElement element220;
+
+  @FindBy(id = "element221")
+  private WebElement element221;
+
+  @FindBy(id = "element222")
+  private WebElement element222;
+
+  @FindBy(id = "element223")
+  private WebElement element223;
+
+  @FindBy(id = "element224")
+  private WebElement element224;
+
+  @FindBy(id = "element225")
+  private WebElement element225;
+
+  @FindBy(id = "element226")
+  private WebElement element226;
+
+  @FindBy(id = "element227")
+  private WebElement element227;
+
+  @FindBy(id = "element228")
+  private WebElement element228;
+
+  @FindBy(id = "element229")
+  private WebElement element229;
+
+  @FindBy(id = "element230")
+  private WebElement element230;
+
+  @FindBy(id = "element231")
+  private WebElement element231;
+
+  @FindBy(id = "element232")
+  private WebElement element232;
+
+  @FindBy(id = "element233")
+  private WebElement element233;
+
+  @FindBy(id = "element234")
+  private WebElement element234;
+
+  @FindBy(id = "element235")
+  private WebElement element235;
+
+  @FindBy(id = "element236")
+  private WebElement element236;
+
+  @FindBy(id = "element237")
+  private WebElement element237;
+
+  @FindBy(id = "element238")
+  private WebElement element238;
+
+  @FindBy(id = "element239")
+  private WebElement element239;
+
+  @FindBy(id = "element240")
+  private WebElement element240;
+
+  @FindBy(id = "element241")
+  private WebElement element241;
+
+  @FindBy(id = "element242")
+  private WebElement element242;
+
+  @FindBy(id = "element243")
+  private WebElement element243;
+
+  @FindBy(id = "element244")
+  private WebElement element244;
+
+  @FindBy(id = "element245")
+  private WebElement element245;
+
+  @FindBy(id = "element246")
+  private WebElement element246;
+
+  @FindBy(id = "element247")
+  private WebElement element247;
+
+  @FindBy(id = "element248")
+  private WebElement element248;
+
+  @FindBy(id = "element249")
+  private WebElement element249;
+
+  @FindBy(id = "element250")
+  private WebElement element250;
+
+  @FindBy(id = "element251")
+  private WebElement element251;
+
+  @FindBy(id = "element252")
+  private WebElement element252;
+
+  @FindBy(id = "element253")
+  private WebElement element253;
+
+  @FindBy(id = "element254")
+  private WebElement element254;
+
+  @FindBy(id = "element255")
+  private WebElement element255;
+
+  @FindBy(id = "element256")
+  private WebElement element256;
+
+  @FindBy(id = "element257")
+  private WebElement element257;
+
+  @FindBy(id = "element258")
+  private WebElement element258;
+
+  @FindBy(id = "element259")
+  private WebElement element259;
+
+  @FindBy(id = "element260")
+  private WebElement element260;
+
+  @FindBy(id = "element261")
+  private WebElement element261;
+
+  @FindBy(id = "element262")
+  private WebElement element262;
+
+  @FindBy(id = "element263")
+  private WebElement element263;
+
+  @FindBy(id = "element264")
+  private WebElement element264;
+
+  @FindBy(id = "element265")
+  private WebElement element265;
+
+  @FindBy(id = "element266")
+  private WebElement element266;
+
+  @FindBy(id = "element267")
+  private WebElement element267;
+
+  @FindBy(id = "element268")
+  private WebElement element268;
+
+  @FindBy(id = "element269")
+  private WebElement element269;
+
+  @FindBy(id = "element270")
+  private WebElement element270;
+
+  @FindBy(id = "element271")
+  private WebElement element271;
+
+  @FindBy(id = "element272")
+  private WebElement element272;
+
+  @FindBy(id = "element273")
+  private WebElement element273;
+
+  @FindBy(id = "element274")
+  private WebElement element274;
+
+  @FindBy(id = "element275")
+  private WebElement element275;
+
+  @FindBy(id = "element276")
+  private WebElement element276;
+
+  @FindBy(id = "element277")
+  private WebElement element277;
+
+  @FindBy(id = "element278")
+  private WebElement element278;
+
+  @FindBy(id = "element279")
+  private WebElement element279;
+
+  @FindBy(id = "element280")
+  private WebElement element280;
+
+  @FindBy(id = "element281")
+  private WebElement element281;
+
+  @FindBy(id = "element282")
+  private WebElement element282;
+
+  @FindBy(id = "element283")
+  private WebElement element283;
+
+  @FindBy(id = "element284")
+  private WebElement element284;
+
+  @FindBy(id = "element285")
+  private WebElement element285;
+
+  @FindBy(id = "element286")
+  private WebElement element286;
+
+  @FindBy(id = "element287")
+  private WebElement element287;
+
+  @FindBy(id = "element288")
+  private WebElement element288;
+
+  @FindBy(id = "element289")
+  private WebElement element289;
+
+  @FindBy(id = "element290")
+  private WebElement element290;
+
+  @FindBy(id = "element291")
+  private WebElement element291;
+
+  @FindBy(id = "element292")
+  private WebElement element292;
+
+  @FindBy(id = "element293")
+  private WebElement element293;
+
+  @FindBy(id = "element294")
+  private WebElement element294;
+
+  @FindBy(id = "element295")
+  private WebElement element295;
+
+  @FindBy(id = "element296")
+  private WebElement element296;
+
+  @FindBy(id = "element297")
+  private WebElement element297;
+
+  @FindBy(id = "element298")
+  private WebElement element298;
+
+  @FindBy(id = "element299")
+  private WebElement element299;
+
+  @Override
+  public void trait() {}
+
+  @Override
+  public void navigateHere() {}
+}
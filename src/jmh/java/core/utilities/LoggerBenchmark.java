@@ -0,0 +1,52 @@
+package core.utilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static core.utilities.Tools.logger;
+
+/**
+ * Cost of the traceEntry/traceExit pair every framework method logs, with trace disabled as it is
+ * by default. threadStackTrace is the logger() lookup every call made before loggers were cached,
+ * throwableStackTrace is the deprecated logger() kept for old pages and cachedLogger is the
+ * logger(Class) field the framework uses now.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoggerBenchmark {
+  private static final Logger logger = logger(LoggerBenchmark.class);
+
+  @Benchmark
+  public void threadStackTrace() {
+    threadStackTraceLogger().traceEntry();
+    threadStackTraceLogger().traceExit();
+  }
+
+  @Benchmark
+  @SuppressWarnings("deprecation")
+  public void throwableStackTrace() {
+    logger().traceEntry();
+    logger().traceExit();
+  }
+
+  @Benchmark
+  public void cachedLogger() {
+    logger.traceEntry();
+    logger.traceExit();
+  }
+
+  /** @return logger of the calling class, looked up the way Tools.logger() did originally */
+  private static Logger threadStackTraceLogger() {
+    String declaringClass = Thread.currentThread().getStackTrace()[2].getClassName();
+    return LogManager.getLogger(declaringClass);
+  }
+}
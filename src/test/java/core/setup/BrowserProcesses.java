@@ -0,0 +1,202 @@
+package core.setup;
+
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static core.utilities.Tools.logger;
+
+/**
+ * Finds the OS processes behind a local driver so they can be measured or force killed. The
+ * process tree is read from /proc on Linux. Other platforms only know the firefox process id from
+ * the session capabilities. Remote sessions have no local processes.
+ */
+public class BrowserProcesses {
+  private static final Logger logger = logger(BrowserProcesses.class);
+  private static final File PROC = new File("/proc");
+  private static final boolean IS_WINDOWS =
+      System.getProperty("os.name").toLowerCase().contains("win");
+
+  private BrowserProcesses() {
+    throw new IllegalStateException("Utility Class");
+  }
+
+  /**
+   * process ids of the browser and its child processes. Includes the driver service process when
+   * it can be found. Only reads capabilities that are already local so it is safe to call on a hung
+   * session.
+   *
+   * @param driver local driver
+   * @return process ids or an empty set if they could not be found
+   */
+  static Set<Long> processTree(RemoteWebDriver driver) {
+    Set<Long> pids = new LinkedHashSet<>();
+    if (Config.IS_REMOTE || driver.getCapabilities() == null) return pids;
+
+    Capabilities capabilities = driver.getCapabilities();
+    Object firefoxPid = capabilities.getCapability("moz:processID");
+    String userDataDir = chromiumUserDataDir(capabilities);
+
+    if (firefoxPid instanceof Number) pids.add(((Number) firefoxPid).longValue());
+    if (!PROC.isDirectory()) return pids;
+
+    Map<Long, Long> parents = new HashMap<>();
+    for (File process : listProcesses()) {
+      long pid = Long.parseLong(process.getName());
+      long parent = readParentPid(process);
+      if (parent < 0) continue;
+
+      parents.put(pid, parent);
+      if (userDataDir != null && readCommandLine(process).contains(userDataDir)) pids.add(pid);
+    }
+
+    addDriverServices(pids, parents);
+    addDescendants(pids, parents);
+    return pids;
+  }
+
+  /**
+   * kills the browser process tree with SIGKILL or taskkill
+   *
+   * @param driver local driver to kill the processes of
+   * @return true if processes were found and the kill command was run
+   */
+  static boolean forceKill(RemoteWebDriver driver) {
+    Set<Long> pids = processTree(driver);
+
+    if (pids.isEmpty()) {
+      logger.warn(String.format("No local processes found to force kill for [%s]", driver));
+      return false;
+    }
+
+    List<String> command = new ArrayList<>();
+    if (IS_WINDOWS) {
+      command.add("taskkill");
+      command.add("/F");
+      command.add("/T");
+      pids.forEach(
+          pid -> {
+            command.add("/PID");
+            command.add(String.valueOf(pid));
+          });
+    } else {
+      command.add("kill");
+      command.add("-9");
+      pids.forEach(pid -> command.add(String.valueOf(pid)));
+    }
+
+    try {
+      new ProcessBuilder(command).redirectErrorStream(true).start().waitFor(5, TimeUnit.SECONDS);
+      logger.warn(String.format("Force killed processes %s of [%s]", pids, driver));
+      return true;
+    } catch (IOException e) {
+      logger.warn(String.format("Force kill failed for [%s]: %s", driver, e.getMessage()));
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * Reads the resident memory of every process in the browser process tree. Shared pages are
+   * counted once per process so this over estimates, which is fine for a recycle threshold.
+   *
+   * @param driver local driver
+   * @return summed VmRSS in MB or 0 if /proc is not available
+   */
+  static long residentSetMb(RemoteWebDriver driver) {
+    long totalKb = 0;
+
+    for (Long pid : processTree(driver)) {
+      try {
+        for (String line : Files.readAllLines(new File(PROC, pid + "/status").toPath())) {
+          if (line.startsWith("VmRSS:")) {
+            totalKb += Long.parseLong(line.replaceAll("\\D", ""));
+            break;
+          }
+        }
+      } catch (IOException | RuntimeException e) {
+        // process exited while reading
+      }
+    }
+    return totalKb / 1024;
+  }
+
+  /** chrome and edge report the profile directory that every browser process is started with */
+  @SuppressWarnings("unchecked")
+  private static String chromiumUserDataDir(Capabilities capabilities) {
+    for (String name : new String[] {"chrome", "msedge"}) {
+      Object options = capabilities.getCapability(name);
+
+      if (options instanceof Map) {
+        Object userDataDir = ((Map<String, Object>) options).get("userDataDir");
+        if (userDataDir != null) return userDataDir.toString();
+      }
+    }
+    return null;
+  }
+
+  /** adds the chromedriver/geckodriver process that started the browser */
+  private static void addDriverServices(Set<Long> pids, Map<Long, Long> parents) {
+    Set<Long> services = new LinkedHashSet<>();
+
+    for (Long pid : pids) {
+      Long parent = parents.get(pid);
+      if (parent == null || pids.contains(parent)) continue;
+
+      String commandLine = readCommandLine(new File(PROC, String.valueOf(parent)));
+      if (commandLine.matches(".*(chromedriver|geckodriver|msedgedriver).*")) services.add(parent);
+    }
+    pids.addAll(services);
+  }
+
+  private static void addDescendants(Set<Long> pids, Map<Long, Long> parents) {
+    boolean added = true;
+
+    while (added) {
+      added = false;
+      for (Map.Entry<Long, Long> process : parents.entrySet()) {
+        if (pids.contains(process.getValue()) && pids.add(process.getKey())) added = true;
+      }
+    }
+  }
+
+  private static File[] listProcesses() {
+    File[] processes = PROC.listFiles(file -> file.getName().matches("\\d+"));
+    return processes == null ? new File[0] : processes;
+  }
+
+  /** @return parent pid read from /proc/[pid]/stat or -1 if the process is gone */
+  private static long readParentPid(File process) {
+    try {
+      String stat = new String(Files.readAllBytes(new File(process, "stat").toPath()));
+      // the process name can contain spaces and is wrapped in parentheses
+      String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+      return Long.parseLong(fields[1]);
+    } catch (IOException | RuntimeException e) {
+      return -1;
+    }
+  }
+
+  private static String readCommandLine(File process) {
+    try {
+      byte[] bytes = Files.readAllBytes(new File(process, "cmdline").toPath());
+      return new String(bytes, StandardCharsets.UTF_8).replace('\0', ' ');
+    } catch (IOException e) {
+      return "";
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package core.setup;
+
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import static core.utilities.Tools.border;
+
+/**
+ * Clears browser state between scenarios so a pooled driver can be reused. Pick a strategy with
+ * -DresetStrategy: combined (default), script, legacy, or the class name of a custom implementation
+ * with a no arg constructor.
+ */
+public interface BrowserReset {
+
+  /**
+   * clears the browser state. Throwing marks the driver as not reusable and it will be evicted
+   *
+   * @param driver driver to reset
+   */
+  void reset(RemoteWebDriver driver);
+
+  /**
+   * @param name built in strategy name or the class name of a BrowserReset implementation
+   * @return the reset strategy
+   */
+  static BrowserReset forName(String name) {
+    for (ResetStrategy strategy : ResetStrategy.values()) {
+      if (strategy.name().equalsIgnoreCase(name)) return strategy;
+    }
+
+    try {
+      Class<? extends BrowserReset> reset = Class.forName(name).asSubclass(BrowserReset.class);
+      return reset.getDeclaredConstructor().newInstance();
+    } catch (ReflectiveOperationException | ClassCastException e) {
+      throw new IllegalArgumentException(
+          border(
+              "[%s] is not one of the reset strategies: [combined, script, legacy] or a class name",
+              name),
+          e);
+    }
+  }
+}
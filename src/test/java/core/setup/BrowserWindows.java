@@ -0,0 +1,228 @@
+package core.setup;
+
+import core.utilities.Timings;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.SessionId;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static core.utilities.Tools.border;
+import static core.utilities.Tools.logger;
+
+/**
+ * Runs -DscenariosPerBrowser scenarios at once in one browser, each in its own window. Browsers
+ * are checked out of the DriverPool as hosts and kept for the rest of the run, and windows are
+ * reused by later scenarios. Scenarios sharing a browser also share its cookies and storage.
+ */
+public class BrowserWindows {
+  private static final Logger logger = logger(BrowserWindows.class);
+  private static final Semaphore WINDOWS =
+      new Semaphore(Config.MAX_DRIVERS * Config.SCENARIOS_PER_BROWSER, true);
+  private static final List<Host> HOSTS = new CopyOnWriteArrayList<>();
+
+  private BrowserWindows() {
+    throw new IllegalStateException("Utility Class");
+  }
+
+  /** @return true if scenarios should lease windows instead of checking out whole browsers */
+  static boolean isEnabled() {
+    return Config.SCENARIOS_PER_BROWSER > 1;
+  }
+
+  /**
+   * Hands out a window of a host browser that has room for another scenario. A new host is checked
+   * out of the DriverPool when every host is full. Blocks until a window is free or the checkout
+   * timeout is reached.
+   *
+   * @return driver routed to a window that is owned by the caller until it is quit
+   */
+  static WindowDriver lease() {
+    logger.traceEntry();
+
+    long start = System.nanoTime();
+    acquireWindow();
+
+    try {
+      while (true) {
+        for (Host host : HOSTS) {
+          WindowDriver window = host.open();
+
+          if (window != null) {
+            Timings.recordSince("window lease", start);
+            return logger.traceExit(window);
+          }
+        }
+        addHost();
+      }
+    } catch (RuntimeException e) {
+      WINDOWS.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Navigates the window to a blank page and hands it back to its host for the next scenario. A
+   * host whose session no longer responds is evicted from the DriverPool.
+   *
+   * @param window window driver that was leased
+   */
+  static void release(WindowDriver window) {
+    logger.traceEntry();
+    if (window.getHost().close(window)) WINDOWS.release();
+    logger.traceExit();
+  }
+
+  private static void acquireWindow() {
+    try {
+      if (!WINDOWS.tryAcquire(Config.DRIVER_CHECKOUT_TIMEOUT, TimeUnit.SECONDS)) {
+        throw new IllegalStateException(
+            border(
+                "No browser window was available after waiting [%ss]. All [%s] windows are in use. "
+                    + "Increase -DmaxDrivers, -DscenariosPerBrowser or -DdriverCheckoutTimeout",
+                Config.DRIVER_CHECKOUT_TIMEOUT,
+                Config.MAX_DRIVERS * Config.SCENARIOS_PER_BROWSER));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for a browser window", e);
+    }
+  }
+
+  /** checks a browser out of the DriverPool and adds it as a host for windows */
+  private static void addHost() {
+    RemoteWebDriver driver = DriverPool.getPool().checkout();
+
+    try {
+      HOSTS.add(new Host(driver));
+    } catch (WebDriverException e) {
+      DriverPool.getPool().evict(driver);
+      throw e;
+    }
+
+    System.out.printf(
+        "[Thread %2d] Added Window Host: [%s] - Hosts: [%s]%n",
+        Thread.currentThread().getId(), driver, HOSTS.size());
+  }
+
+  /**
+   * A pooled browser that windows are opened in. Everything that sends commands to the browser
+   * holds the lock of its host, so the focused window is always the one the command is for.
+   */
+  static class Host {
+    private final RemoteWebDriver driver;
+    private final SessionId sessionId;
+    private final Deque<String> freeWindows = new ArrayDeque<>();
+    private final Set<WindowDriver> leased = new HashSet<>();
+    private String focusedWindow;
+    private boolean retired = false;
+    // set when the browser failed to open a window. Only windows it already has are handed out
+    private boolean full = false;
+
+    private Host(RemoteWebDriver driver) {
+      this.driver = driver;
+      this.sessionId = driver.getSessionId();
+      this.focusedWindow = driver.getWindowHandle();
+      freeWindows.offer(focusedWindow);
+    }
+
+    RemoteWebDriver getDriver() {
+      return driver;
+    }
+
+    SessionId getSessionId() {
+      return sessionId;
+    }
+
+    String getFocusedWindow() {
+      return focusedWindow;
+    }
+
+    void setFocusedWindow(String windowHandle) {
+      focusedWindow = windowHandle;
+    }
+
+    /** sends a command as is. Callers hold the lock of this host */
+    Response execute(Command command) throws IOException {
+      return driver.getCommandExecutor().execute(command);
+    }
+
+    /**
+     * A browser that fails to open a window is marked full instead of being retired, so scenarios
+     * still running in its other windows are not failed with it. It is evicted once none of its
+     * windows are leased.
+     *
+     * @return driver for a free or newly opened window, or null if this host has no room
+     */
+    private synchronized WindowDriver open() {
+      if (retired || leased.size() >= Config.SCENARIOS_PER_BROWSER) return null;
+
+      String windowHandle = freeWindows.pollFirst();
+
+      if (windowHandle == null) {
+        if (full) return null;
+
+        try {
+          driver.switchTo().newWindow(WindowType.WINDOW);
+          windowHandle = driver.getWindowHandle();
+          focusedWindow = windowHandle;
+        } catch (WebDriverException e) {
+          logger.warn(String.format("Window Host [%s] failed to open window: %s", driver, e));
+          // the browser may have switched before failing, the next command switches explicitly
+          focusedWindow = null;
+          full = true;
+          retireIfUnused();
+          return null;
+        }
+      }
+
+      WindowDriver window = new WindowDriver(this, windowHandle);
+      leased.add(window);
+      return window;
+    }
+
+    /** @return true if the window was leased from this host and its slot should be freed */
+    private synchronized boolean close(WindowDriver window) {
+      if (!leased.remove(window)) return false;
+      if (retired) return true;
+
+      try {
+        window.get("about:blank");
+        freeWindows.offerFirst(window.getWindowRoute());
+      } catch (WebDriverException e) {
+        // the scenario may have closed its own window, the host is only retired if it is gone
+        try {
+          driver.getWindowHandles();
+        } catch (WebDriverException hostGone) {
+          retire();
+        }
+      }
+      retireIfUnused();
+      return true;
+    }
+
+    /** retires a full host that has no window left to hand out and none leased */
+    private void retireIfUnused() {
+      if (full && !retired && leased.isEmpty() && freeWindows.isEmpty()) retire();
+    }
+
+    /** removes the host and evicts its browser. Windows still leased fail with their scenario */
+    private void retire() {
+      retired = true;
+      HOSTS.remove(this);
+      DriverPool.getPool().evict(driver);
+    }
+  }
+}
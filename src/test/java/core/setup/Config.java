@@ -1,87 +1,113 @@
 package core.setup;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
-import com.google.gson.reflect.TypeToken;
+import core.utilities.ScenarioLogBuffer;
 import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.core.config.Configurator;
-
-import java.io.BufferedReader;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.lang.reflect.Type;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import org.openqa.selenium.Capabilities;
 
 import static core.utilities.Tools.border;
 import static core.utilities.Tools.logger;
 import static java.lang.System.getProperty;
 
 public class Config {
+  private static final Logger logger = logger(Config.class);
   public static final String WORKSPACE = getProperty("user.dir");
   public String logLevel = getProperty("logLevel", "notSet");
   public static String USER = getProperty("user", "user1");
   public static String USERNAME = getProperty("username", "notSet");
   public static String PASSWORD = getProperty("password", "notSet");
   public static String PROD_USER = getProperty("user", "user1Prod");
+  public static final String USER_POOL = getProperty("userPool", "");
+  public static final String USER_POOL_POLICY = getProperty("userPoolPolicy", "block");
+  public static final int SCREENSHOT_WRITERS =
+      Integer.parseInt(getProperty("screenshotWriters", "2"));
+  public static final int SCREENSHOT_QUEUE = Integer.parseInt(getProperty("screenshotQueue", "32"));
+  public static final double SCREENSHOT_SCALE =
+      Double.parseDouble(getProperty("screenshotScale", "1"));
+  public static final String SCREENSHOT_FORMAT =
+      getProperty("screenshotFormat", "png").toLowerCase();
+  public static final Boolean FAILURE_BUNDLE =
+      Boolean.parseBoolean(getProperty("failureBundle", "true"));
+  public static final long POLL_START =
+      Math.max(1, Long.parseLong(getProperty("pollStart", "25")));
+  public static final long SCENARIO_WAIT_BUDGET =
+      Long.parseLong(getProperty("scenarioWaitBudget", "0"));
+  public static final Boolean BROWSER_WAITS =
+      Boolean.parseBoolean(getProperty("browserWaits", "false"));
+  public static final int BULK_READ_THRESHOLD =
+      Integer.parseInt(getProperty("bulkReadThreshold", "10"));
+  public static final String FAILURE_LOG_LEVEL = getProperty("failureLogLevel", "off");
   private static String env = getProperty("env", "https://gfycat.com/");
   Boolean parallel = Boolean.parseBoolean(getProperty("parallel", "false"));
   public static final Boolean IS_REMOTE = Boolean.parseBoolean(getProperty("isRemote", "false"));
+  public static final int MAX_DRIVERS =
+      Integer.parseInt(
+          getProperty(
+              "maxDrivers",
+              String.valueOf(Math.max(1, Runtime.getRuntime().availableProcessors() / 2))));
+  public static final int DRIVER_CHECKOUT_TIMEOUT =
+      Integer.parseInt(getProperty("driverCheckoutTimeout", "300"));
+  public static final int DRIVER_QUIT_TIMEOUT =
+      Integer.parseInt(getProperty("driverQuitTimeout", "10"));
+  public static final int RECYCLE_AFTER_SCENARIOS =
+      Integer.parseInt(getProperty("recycleAfterScenarios", "0"));
+  public static final long RECYCLE_ABOVE_MB = Long.parseLong(getProperty("recycleAboveMb", "0"));
+  public static final String RESET_STRATEGY = getProperty("resetStrategy", "combined");
+  public static final int SCENARIOS_PER_BROWSER =
+      Math.max(1, Integer.parseInt(getProperty("scenariosPerBrowser", "1")));
+  public static final int WARM_DRIVERS =
+      Integer.parseInt(
+          getProperty(
+              "warmDrivers",
+              Boolean.parseBoolean(getProperty("parallel", "false"))
+                  ? String.valueOf(MAX_DRIVERS)
+                  : "1"));
+  public static final int SESSION_TIMEOUT = Integer.parseInt(getProperty("sessionTimeout", "120"));
+  public static final int SESSION_RETRIES = Integer.parseInt(getProperty("sessionRetries", "3"));
+  public static final long SESSION_BACKOFF = Long.parseLong(getProperty("sessionBackoff", "1000"));
+  public static final String DRIVER_VERSION = getProperty("driverVersion", "latest");
+  public static final Boolean DRIVER_OFFLINE =
+      Boolean.parseBoolean(getProperty("driverOffline", "false"));
+  public static final String DRIVER_CACHE =
+      getProperty(
+          "driverCache",
+          getProperty("user.home") + "/.m2/repository/webdriver/resolved-drivers.properties");
 
   private static String deviceName;
+  private static boolean logLevelSet = false;
   private String url;
-  private Map<String, Object> capabilities;
+  private Capabilities capabilities;
 
   /**
    * set platform property to -> Android, iOS, or Web and then sets desired capabilities based off
    * set platform
    */
   public Config() {
-    logger().traceEntry();
-    logger().traceExit();
+    logger.traceEntry();
+    logger.traceExit();
   }
 
   /** sets Web Desired Capabilities */
   void setCapabilities() {
-    logger().traceEntry();
+    logger.traceEntry();
     deviceName = getProperty("deviceName", "chrome");
-    capabilities = getDeviceCapabilities(deviceName);
+    capabilities = DeviceRegistry.get(deviceName);
     url = getProperty("seleniumGrid", "http://localhost:4444/wd/hub");
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /**
-   * Deserialize json into desired capabilities map
-   *
-   * @param device
-   * @return desired capabilities map created from json
-   */
-  private HashMap<String, Object> getDeviceCapabilities(String device) {
-    logger().traceEntry();
-    InputStream file;
-    BufferedReader reader;
-    Type hashType;
-    JsonElement jsonElement;
-
-    file = getClass().getResourceAsStream("/jsonData/devices.json");
-    reader = new BufferedReader(new InputStreamReader(file));
-    hashType = new TypeToken<HashMap<String, Object>>() {}.getType();
-    jsonElement = new JsonParser().parse(reader).getAsJsonObject().get(device);
-
-    HashMap<String, Object> stringObjectHashMap = new Gson().fromJson(jsonElement, hashType);
-    logger().traceExit(stringObjectHashMap);
-    return stringObjectHashMap;
-  }
-
-  /**
-   * sets log level during runtime if a value is provided through the CLI. Default will be WARN
+   * sets log level during runtime if a value is provided through the CLI. Default will be WARN.
+   * Levels are JVM wide so they are only set by the first scenario
    *
    * @param logLevel log level we want to use
    */
   void setLogLevel(String logLevel) {
+    synchronized (Config.class) {
+      if (logLevelSet) return;
+      logLevelSet = true;
+    }
     String name = LogManager.getRootLogger().getName();
 
     if (!logLevel.equals("notSet")) {
@@ -118,31 +144,32 @@ public class Config {
                   logLevel));
       }
     }
-    logger().traceExit();
+    ScenarioLogBuffer.capture(FAILURE_LOG_LEVEL);
+    logger.traceExit();
   }
 
   // <editor-fold desc="Get and Sets">
-  Map<String, Object> getCapabilities() {
-    logger().traceEntry();
-    logger().traceExit(capabilities);
+  Capabilities getCapabilities() {
+    logger.traceEntry();
+    logger.traceExit(capabilities);
     return capabilities;
   }
 
   String getUrl() {
-    logger().traceEntry();
-    logger().traceExit(url);
+    logger.traceEntry();
+    logger.traceExit(url);
     return url;
   }
 
   public static String getEnv() {
-    logger().traceEntry();
-    logger().traceExit(env);
+    logger.traceEntry();
+    logger.traceExit(env);
     return env;
   }
 
   static void setEnv(String env) {
-    logger().traceEntry();
-    logger().traceExit(env);
+    logger.traceEntry();
+    logger.traceExit(env);
     Config.env = env;
   }
 
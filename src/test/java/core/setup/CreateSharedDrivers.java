@@ -1,7 +1,8 @@
 package core.setup;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
-import org.openqa.selenium.ElementNotInteractableException;
+import core.setup.DriverBinaries.Binary;
+import core.utilities.Timings;
+import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeDriver;
@@ -9,102 +10,151 @@ import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.ie.InternetExplorerDriver;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 import static core.utilities.Tools.logger;
 
 public class CreateSharedDrivers {
+  private static final Logger logger = logger(CreateSharedDrivers.class);
 
-  /** initialize this class to create a driver if driver is not null */
+  /** initialize this class to check out a driver from the DriverPool if driver is null */
   public CreateSharedDrivers() {
     if (Hooks.getDriver() == null) {
-      createAndSetAddedDriver();
+      checkoutAndSetDriver();
     }
   }
 
-  /** quits all storedDrivers with a shutdown hook */
+  /**
+   * quits all storedDrivers, waits for queued screenshots and prints the run timings with a
+   * shutdown hook
+   */
   static {
-    Runtime.getRuntime()
-        .addShutdownHook(
-            new Thread(
-                () ->
-                    Hooks.storedDrivers.forEach(
-                        driver -> {
-                          logger()
-                              .info(
-                                  String.format(
-                                      "Stored Driver Count: [%s]",
-                                      String.valueOf(Hooks.storedDrivers.size())));
-
-                          logger().info(String.format("Driver [%s] will be quit", driver));
-
-                          try {
-                            driver.quit();
-                          } catch (Exception e) {
-                            driver = null;
-                          }
-                        })));
+    Runtime.getRuntime().addShutdownHook(new Thread(CreateSharedDrivers::shutdown));
+  }
+
+  private static void shutdown() {
+    quitStoredDrivers();
+    ScreenshotWriter.drain(Config.DRIVER_QUIT_TIMEOUT);
+    Timings.printReport();
   }
 
   /**
-   * creates a driver, adds it to to storedDrivers which sets the driver to the current driver being
-   * added
+   * quits every stored driver in parallel. Drivers that have not quit within
+   * -DdriverQuitTimeout seconds are force killed so one hung browser can not stall JVM exit
    */
-  private void createAndSetAddedDriver() {
-    logger().traceEntry();
-    createDriver();
-    logger().traceExit();
-  }
+  private static void quitStoredDrivers() {
+    List<RemoteWebDriver> drivers = new ArrayList<>(DriverPool.getPool().getStoredDrivers());
+    if (drivers.isEmpty()) return;
 
-  private void createDriver() {
-    if (Config.IS_REMOTE) {
+    logger.info(String.format("Stored Driver Count: [%s]", drivers.size()));
+
+    long start = System.nanoTime();
+    long deadline = start + TimeUnit.SECONDS.toNanos(Config.DRIVER_QUIT_TIMEOUT);
+    ExecutorService executor = Executors.newFixedThreadPool(drivers.size());
+    Map<RemoteWebDriver, Future<?>> quits = new LinkedHashMap<>();
+
+    drivers.forEach(
+        driver -> {
+          logger.info(String.format("Driver [%s] will be quit", driver));
+          quits.put(driver, executor.submit(driver::quit));
+        });
+
+    int forceKilled = 0;
+    for (Map.Entry<RemoteWebDriver, Future<?>> quit : quits.entrySet()) {
       try {
-        Hooks.addDriver(new RemoteWebDriver(Hooks.url, Hooks.capabilities));
-        Hooks.getDriver().manage().deleteAllCookies();
-      } catch (ElementNotInteractableException e) {
-        // Ignore Exception
+        quit.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      } catch (TimeoutException e) {
+        System.out.printf(
+            "[Teardown] Driver [%s] did not quit within [%ss] and will be force killed%n",
+            quit.getKey(), Config.DRIVER_QUIT_TIMEOUT);
+        if (BrowserProcesses.forceKill(quit.getKey())) forceKilled++;
+      } catch (ExecutionException e) {
+        // session is already gone
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
       }
+    }
+    executor.shutdownNow();
 
+    System.out.printf(
+        "[Teardown] Quit [%s] drivers in [%sms] - Force killed: [%s]%n",
+        drivers.size(), Timings.recordSince("driver teardown", start), forceKilled);
+  }
+
+  /**
+   * checks out a driver from the DriverPool, or leases a window of a shared browser when
+   * -DscenariosPerBrowser is set, and sets it as the driver for the current thread
+   */
+  private void checkoutAndSetDriver() {
+    logger.traceEntry();
+    Hooks.setDriver(
+        BrowserWindows.isEnabled() ? BrowserWindows.lease() : DriverPool.getPool().checkout());
+    logger.traceExit();
+  }
+
+  /**
+   * creates a new driver for the current device. Used by the DriverPool when it needs a new session
+   *
+   * @return created driver
+   */
+  static RemoteWebDriver createDriver() {
+    RemoteWebDriver driver = null;
+
+    if (Config.IS_REMOTE) {
+      driver = RemoteSessions.create(Hooks.url, Hooks.capabilities);
     } else {
-      logger().traceEntry();
+      logger.traceEntry();
 
       switch (Config.getDeviceName()) {
         case "chrome":
-          WebDriverManager.chromedriver().setup();
+          DriverBinaries.setup(Binary.CHROME);
           System.setProperty("webdriver.chrome.silentOutput", "true");
-          Hooks.addDriver(new ChromeDriver(new ChromeOptions().addArguments("start-maximized")));
-          Hooks.getDriver().manage().window().maximize();
+          driver = new ChromeDriver(new ChromeOptions().addArguments("start-maximized"));
+          driver.manage().window().maximize();
           break;
         case "chromeHeadless":
-          WebDriverManager.chromedriver().setup();
+          DriverBinaries.setup(Binary.CHROME);
           System.setProperty("webdriver.chrome.silentOutput", "true");
-          Hooks.addDriver(
+          driver =
               new ChromeDriver(
                   new ChromeOptions()
                       .setHeadless(true)
                       .addArguments("no-sandbox")
-                      .addArguments("window-size=1920,1080")));
-          Hooks.getDriver().manage().window().maximize();
+                      .addArguments("window-size=1920,1080"));
+          driver.manage().window().maximize();
           break;
         case "firefox":
-          WebDriverManager.firefoxdriver().setup();
+          DriverBinaries.setup(Binary.FIREFOX);
           System.setProperty(FirefoxDriver.SystemProperty.BROWSER_LOGFILE, "false");
           System.setProperty(FirefoxDriver.SystemProperty.BROWSER_LOGFILE, "/dev/null");
-          Hooks.addDriver(new FirefoxDriver());
-          Hooks.getDriver().manage().window().maximize();
+          driver = new FirefoxDriver();
+          driver.manage().window().maximize();
           break;
         case "edge":
-          WebDriverManager.edgedriver().setup();
+          DriverBinaries.setup(Binary.EDGE);
           System.setProperty("webdriver.edge.silentOutput", "true");
-          Hooks.addDriver(new EdgeDriver());
-          Hooks.getDriver().manage().window().maximize();
+          driver = new EdgeDriver();
+          driver.manage().window().maximize();
           break;
         case "internet explorer":
-          WebDriverManager.iedriver().setup();
-          Hooks.addDriver(new InternetExplorerDriver());
-          Hooks.getDriver().manage().window().maximize();
+          DriverBinaries.setup(Binary.INTERNET_EXPLORER);
+          driver = new InternetExplorerDriver();
+          driver.manage().window().maximize();
           break;
         default:
           throw new IllegalStateException("Unexpected value: " + Config.getDeviceName());
       }
     }
+    return logger.traceExit(driver);
   }
 }
@@ -0,0 +1,101 @@
+package core.setup;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import core.utilities.Timings;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.ImmutableCapabilities;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static core.utilities.Tools.border;
+import static core.utilities.Tools.logger;
+
+/**
+ * Capabilities of every device in jsonData/devices.json. The file is parsed and validated once,
+ * the first time a device is looked up, so per scenario setup is a map lookup.
+ */
+public class DeviceRegistry {
+  private static final Logger logger = logger(DeviceRegistry.class);
+  private static final String DEVICES = "/jsonData/devices.json";
+
+  private DeviceRegistry() {
+    throw new IllegalStateException("Utility Class");
+  }
+
+  /** loaded on first use by the class loader, which also makes the load thread safe */
+  private static class Devices {
+    private static final Map<String, Capabilities> CAPABILITIES = load();
+  }
+
+  /**
+   * @param deviceName name of the device in devices.json
+   * @return capabilities of the device. Immutable so they can be shared between threads. Local
+   *     browsers without an entry get empty capabilities since CreateSharedDrivers builds their
+   *     options itself
+   * @throws IllegalArgumentException for remote devices that are not in devices.json
+   */
+  static Capabilities get(String deviceName) {
+    Capabilities capabilities = Devices.CAPABILITIES.get(deviceName);
+
+    if (capabilities == null && !Config.IS_REMOTE) return new ImmutableCapabilities();
+
+    if (capabilities == null) {
+      throw new IllegalArgumentException(
+          border(
+              "[%s] is not a device in %s. Valid devices: %s",
+              deviceName, DEVICES, Devices.CAPABILITIES.keySet()));
+    }
+    return capabilities;
+  }
+
+  private static Map<String, Capabilities> load() {
+    logger.traceEntry();
+    long start = System.nanoTime();
+
+    InputStream file = DeviceRegistry.class.getResourceAsStream(DEVICES);
+    if (file == null) throw new IllegalStateException(border("[%s] was not found", DEVICES));
+
+    Map<String, Capabilities> devices = new TreeMap<>();
+    Type hashType = new TypeToken<HashMap<String, Object>>() {}.getType();
+    Gson gson = new Gson();
+
+    try (Reader reader = new InputStreamReader(file, StandardCharsets.UTF_8)) {
+      JsonObject json = new JsonParser().parse(reader).getAsJsonObject();
+
+      for (Map.Entry<String, JsonElement> device : json.entrySet()) {
+        Map<String, Object> capabilities = gson.fromJson(device.getValue(), hashType);
+        validate(device.getKey(), capabilities);
+        devices.put(device.getKey(), new ImmutableCapabilities(capabilities));
+      }
+    } catch (IOException | JsonParseException | IllegalStateException e) {
+      throw new IllegalStateException(
+          border("[%s] could not be loaded: %s", DEVICES, e.getMessage()), e);
+    }
+
+    Timings.recordSince("device registry load", start);
+    return logger.traceExit(Collections.unmodifiableMap(devices));
+  }
+
+  private static void validate(String deviceName, Map<String, Object> capabilities) {
+    Object browserName = capabilities == null ? null : capabilities.get("browserName");
+
+    if (!(browserName instanceof String) || ((String) browserName).isEmpty()) {
+      throw new IllegalStateException(String.format("device [%s] has no browserName", deviceName));
+    }
+  }
+}
@@ -0,0 +1,176 @@
+package core.setup;
+
+import core.utilities.Timings;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static core.utilities.Tools.border;
+import static core.utilities.Tools.logger;
+
+/**
+ * Resolves local driver binaries once per JVM. Resolved paths are persisted to an on disk cache
+ * keyed by browser and resolved driver version. Runs pinned to a -DdriverVersion skip
+ * WebDriverManager once the version is cached, and -DdriverOffline runs never touch the network.
+ *
+ * <p>Runs that want the latest driver ask WebDriverManager once per JVM, so a driver that matches
+ * an auto-updated browser is picked up. The cache also remembers which version was latest when it
+ * was last resolved, for offline runs.
+ */
+public class DriverBinaries {
+  private static final Logger logger = logger(DriverBinaries.class);
+  private static final Map<String, String> RESOLVED = new ConcurrentHashMap<>();
+  private static final String LATEST = "latest";
+
+  /** local driver binaries and the system property the driver reads the binary path from */
+  public enum Binary {
+    CHROME("chrome", "webdriver.chrome.driver", WebDriverManager::chromedriver),
+    FIREFOX("firefox", "webdriver.gecko.driver", WebDriverManager::firefoxdriver),
+    EDGE("edge", "webdriver.edge.driver", WebDriverManager::edgedriver),
+    INTERNET_EXPLORER("ie", "webdriver.ie.driver", WebDriverManager::iedriver);
+
+    private final String browser;
+    private final String property;
+    private final Supplier<WebDriverManager> manager;
+
+    Binary(String browser, String property, Supplier<WebDriverManager> manager) {
+      this.browser = browser;
+      this.property = property;
+      this.manager = manager;
+    }
+  }
+
+  private DriverBinaries() {
+    throw new IllegalStateException("Utility Class");
+  }
+
+  /**
+   * sets the driver binary system property. The binary is resolved on the first call for a browser
+   * and every call after that is a map lookup
+   *
+   * @param binary driver binary to set up
+   */
+  static void setup(Binary binary) {
+    String key = cacheKey(binary, Config.DRIVER_VERSION);
+    String path = RESOLVED.computeIfAbsent(key, k -> resolve(binary, k));
+    System.setProperty(binary.property, path);
+  }
+
+  /**
+   * resolves the binary from, in order, the driver system property given through the CLI, the on
+   * disk cache when offline or pinned to a version, and WebDriverManager when not offline
+   */
+  private static String resolve(Binary binary, String key) {
+    logger.traceEntry();
+    long start = System.nanoTime();
+    boolean pinned = !Config.DRIVER_VERSION.equals(LATEST);
+
+    String path = System.getProperty(binary.property);
+    if (isExecutable(path)) return logger.traceExit(path);
+
+    if (pinned || Config.DRIVER_OFFLINE) {
+      path = cachedPath(binary);
+      if (isExecutable(path)) {
+        logger.info(String.format("Driver binary [%s] resolved from cache: [%s]", key, path));
+        Timings.recordSince(String.format("driver binary [%s]", binary.browser), start);
+        return logger.traceExit(path);
+      }
+    }
+
+    if (Config.DRIVER_OFFLINE) {
+      throw new IllegalStateException(
+          border(
+              "-DdriverOffline is set but no [%s] driver binary was cached in [%s]. "
+                  + "Run once online or set -D%s to the binary path",
+              key, Config.DRIVER_CACHE, binary.property));
+    }
+
+    WebDriverManager manager = binary.manager.get();
+    if (pinned) manager.version(Config.DRIVER_VERSION);
+    manager.setup();
+    path = manager.getBinaryPath();
+
+    storeInCache(binary, manager.getDownloadedVersion(), path, !pinned);
+    Timings.recordSince(String.format("driver binary [%s]", binary.browser), start);
+    return logger.traceExit(path);
+  }
+
+  /**
+   * @return cached path of the -DdriverVersion binary, or of the version that was latest when the
+   *     cache was last written, or null if it was never cached
+   */
+  private static String cachedPath(Binary binary) {
+    Properties cache = loadCache();
+    String version =
+        Config.DRIVER_VERSION.equals(LATEST)
+            ? cache.getProperty(cacheKey(binary, LATEST))
+            : Config.DRIVER_VERSION;
+    return version == null ? null : cache.getProperty(cacheKey(binary, version));
+  }
+
+  private static String cacheKey(Binary binary, String version) {
+    return String.format("%s.%s", binary.browser, version);
+  }
+
+  private static boolean isExecutable(String path) {
+    return path != null && new File(path).canExecute();
+  }
+
+  private static Properties loadCache() {
+    Properties cache = new Properties();
+    File file = new File(Config.DRIVER_CACHE);
+
+    if (file.isFile()) {
+      try (InputStream in = Files.newInputStream(file.toPath())) {
+        cache.load(in);
+      } catch (IOException e) {
+        logger.warn(String.format("Driver binary cache could not be read: %s", e.getMessage()));
+      }
+    }
+    return cache;
+  }
+
+  /**
+   * writes to a temp file that is moved over the cache so parallel JVMs never read a partial file
+   *
+   * @param binary driver binary that was resolved
+   * @param version driver version WebDriverManager resolved
+   * @param path path of the binary
+   * @param latest true if the version was resolved as the latest one
+   */
+  private static synchronized void storeInCache(
+      Binary binary, String version, String path, boolean latest) {
+    if (version == null) {
+      logger.warn(String.format("Driver binary [%s] has no resolved version to cache", path));
+      return;
+    }
+
+    Properties cache = loadCache();
+    cache.setProperty(cacheKey(binary, version), path);
+    if (latest) cache.setProperty(cacheKey(binary, LATEST), version);
+
+    try {
+      Path target = new File(Config.DRIVER_CACHE).getAbsoluteFile().toPath();
+      Files.createDirectories(target.getParent());
+      Path temp = Files.createTempFile(target.getParent(), "resolved-drivers", ".tmp");
+
+      try (OutputStream out = Files.newOutputStream(temp)) {
+        cache.store(out, "Driver binaries resolved by WebDriverManager. Delete to re-resolve");
+      }
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      logger.warn(String.format("Driver binary cache could not be written: %s", e.getMessage()));
+    }
+  }
+}
@@ -0,0 +1,379 @@
+package core.setup;
+
+import core.utilities.Timings;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static core.utilities.Tools.border;
+import static core.utilities.Tools.logger;
+
+/**
+ * Bounded pool of browser sessions shared by the cucumber threads. A scenario checks a driver out
+ * before it starts and checks it back in when it is complete. Idle drivers are probed before they
+ * are handed out and dead sessions are evicted, so a crashed browser gets replaced instead of
+ * failing every remaining scenario on its thread.
+ */
+public class DriverPool {
+  private static final Logger logger = logger(DriverPool.class);
+  private static final DriverPool POOL =
+      new DriverPool(Config.MAX_DRIVERS, CreateSharedDrivers::createDriver);
+
+  private final int maxSize;
+  private final Semaphore sessions;
+  private final Supplier<RemoteWebDriver> factory;
+  private final BlockingDeque<RemoteWebDriver> idleDrivers = new LinkedBlockingDeque<>();
+  private final Set<RemoteWebDriver> storedDrivers = ConcurrentHashMap.newKeySet();
+  private final Map<RemoteWebDriver, Integer> scenarioCounts = new ConcurrentHashMap<>();
+  // last browser memory sampled in the background after a check in
+  private final Map<RemoteWebDriver, Long> memorySamples = new ConcurrentHashMap<>();
+  // drivers about to be recycled that a spare driver was already started for
+  private final Set<RemoteWebDriver> replaced = ConcurrentHashMap.newKeySet();
+  private final ExecutorService recycler =
+      Executors.newCachedThreadPool(
+          runnable -> {
+            Thread thread = new Thread(runnable, "driver-recycler");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  /**
+   * @param maxSize max amount of live sessions the pool will hold at once
+   * @param factory creates a new session when the pool is not full and no idle driver is present
+   */
+  DriverPool(int maxSize, Supplier<RemoteWebDriver> factory) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException(
+          border("[maxDrivers] needs to be greater than 0 but was: [%s]", maxSize));
+    }
+    this.maxSize = maxSize;
+    this.sessions = new Semaphore(maxSize);
+    this.factory = factory;
+  }
+
+  public static DriverPool getPool() {
+    return POOL;
+  }
+
+  /**
+   * Hands out an idle driver that is still alive, or creates a new one if the pool is not full.
+   * When every session is in use this blocks until a driver is checked in or the checkout timeout
+   * is reached.
+   *
+   * @return a live driver that is owned by the caller until it is checked back in
+   */
+  RemoteWebDriver checkout() {
+    logger.traceEntry();
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(Config.DRIVER_CHECKOUT_TIMEOUT);
+
+    while (true) {
+      RemoteWebDriver driver = idleDrivers.pollFirst();
+
+      if (driver == null && sessions.tryAcquire()) {
+        return logger.traceExit(create());
+      }
+
+      if (driver == null) {
+        driver = awaitCheckin(deadline);
+        if (driver == null) continue;
+      }
+
+      // memory is sampled after the check in so a driver that grew too large retires here
+      long memoryMb = memorySamples.getOrDefault(driver, 0L);
+      if (Config.RECYCLE_ABOVE_MB > 0 && memoryMb >= Config.RECYCLE_ABOVE_MB) {
+        recycle(driver, scenarioCounts.getOrDefault(driver, 0), memoryMb);
+        continue;
+      }
+
+      if (isAlive(driver)) return logger.traceExit(driver);
+      evict(driver);
+    }
+  }
+
+  /**
+   * Starts sessions concurrently and adds them to the idle drivers so the first scenarios do not
+   * pay for a cold browser start. Blocks until every session has started or failed.
+   *
+   * @param count amount of sessions to start. Capped at the pool size
+   */
+  void warmUp(int count) {
+    logger.traceEntry();
+
+    int target = Math.min(count, maxSize);
+    if (target < 1) return;
+
+    long start = System.nanoTime();
+    ExecutorService executor = Executors.newFixedThreadPool(target);
+    List<Future<RemoteWebDriver>> futures = new ArrayList<>();
+
+    for (int i = 0; i < target && sessions.tryAcquire(); i++) {
+      futures.add(executor.submit(this::create));
+    }
+
+    int started = 0;
+    for (Future<RemoteWebDriver> future : futures) {
+      try {
+        idleDrivers.offerLast(future.get());
+        started++;
+      } catch (ExecutionException e) {
+        logger.warn(String.format("Driver warm up failed: %s", e.getCause().getMessage()));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    executor.shutdown();
+
+    System.out.printf(
+        "[Warm Up] Started [%s/%s] [%s] drivers in [%sms]%n",
+        started,
+        target,
+        Config.getDeviceName(),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    logger.traceExit();
+  }
+
+  /**
+   * Returns a driver to the pool. A driver that has run -DrecycleAfterScenarios scenarios or whose
+   * browser uses more than -DrecycleAboveMb of memory is recycled: it is quit in the background and
+   * a replacement is started in its slot. When the pool has a free slot one scenario early, a spare
+   * driver is started then and joins the idle drivers, so it is usually ready by the time the old
+   * driver retires. Memory is sampled in the background after the check in so the scenario thread
+   * does not wait for it, and a driver found above the limit is recycled when it is next checked
+   * out.
+   *
+   * @param driver driver that was checked out
+   * @param reusable false when the driver can not be reused and should be quit and evicted
+   */
+  void checkin(RemoteWebDriver driver, boolean reusable) {
+    logger.traceEntry();
+
+    if (!reusable || !storedDrivers.contains(driver)) {
+      evict(driver);
+      logger.traceExit();
+      return;
+    }
+
+    int scenarios = scenarioCounts.merge(driver, 1, Integer::sum);
+    long memoryMb = memorySamples.getOrDefault(driver, 0L);
+
+    if (isRecycleDue(scenarios, memoryMb)) {
+      recycle(driver, scenarios, memoryMb);
+    } else {
+      // most recently used drivers are handed out first so idle sessions stay warm
+      idleDrivers.offerFirst(driver);
+      if (isRecycleDue(scenarios + 1, memoryMb * 5 / 4)) prepareReplacement(driver);
+      if (Config.RECYCLE_ABOVE_MB > 0) recycler.execute(() -> sampleMemory(driver));
+    }
+
+    logger.traceExit();
+  }
+
+  /**
+   * removes a driver from the pool and quits it. Frees its slot for a new session.
+   *
+   * @param driver driver to evict
+   */
+  void evict(RemoteWebDriver driver) {
+    logger.traceEntry();
+
+    idleDrivers.remove(driver);
+    if (storedDrivers.remove(driver)) {
+      releaseSlot(driver);
+      System.out.printf(
+          "[Thread %2d] Evicted Driver: [%s]%n", Thread.currentThread().getId(), driver);
+      quitQuietly(driver);
+    }
+
+    logger.traceExit();
+  }
+
+  /** @return every driver that is currently held by the pool, checked out or idle */
+  Set<RemoteWebDriver> getStoredDrivers() {
+    return Collections.unmodifiableSet(storedDrivers);
+  }
+
+  int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * @param scenarios amount of scenarios the driver has run
+   * @param memoryMb resident memory of the browser process tree
+   * @return true if either recycle threshold is set and reached
+   */
+  private boolean isRecycleDue(int scenarios, long memoryMb) {
+    return (Config.RECYCLE_AFTER_SCENARIOS > 0 && scenarios >= Config.RECYCLE_AFTER_SCENARIOS)
+        || (Config.RECYCLE_ABOVE_MB > 0 && memoryMb >= Config.RECYCLE_ABOVE_MB);
+  }
+
+  /** reads the memory of the browser of a driver that is still in the pool */
+  private void sampleMemory(RemoteWebDriver driver) {
+    if (!storedDrivers.contains(driver)) return;
+
+    long memoryMb = BrowserProcesses.residentSetMb(driver);
+    memorySamples.put(driver, memoryMb);
+
+    // the driver may have been evicted while its memory was read
+    if (!storedDrivers.contains(driver)) {
+      memorySamples.remove(driver);
+    } else if (isRecycleDue(scenarioCounts.getOrDefault(driver, 0) + 1, memoryMb * 5 / 4)) {
+      prepareReplacement(driver);
+    }
+  }
+
+  /** removes the driver from the pool and quits it in the background */
+  private void recycle(RemoteWebDriver driver, int scenarios, long memoryMb) {
+    System.out.printf(
+        "[Thread %2d] Recycling Driver: [%s] after [%s] scenarios using [%sMB]%n",
+        Thread.currentThread().getId(), driver, scenarios, memoryMb);
+
+    boolean spareStarted = replaced.contains(driver);
+    if (storedDrivers.remove(driver)) {
+      releaseSlot(driver);
+      recycler.execute(() -> quitQuietly(driver));
+      if (!spareStarted) startSpare();
+    }
+  }
+
+  /**
+   * starts a spare driver for a driver that is about to be recycled, once per driver and only if
+   * the pool has a free slot
+   */
+  private void prepareReplacement(RemoteWebDriver driver) {
+    if (!storedDrivers.contains(driver) || !replaced.add(driver)) return;
+
+    // the driver may have left the pool in the meantime. The spare still joins the idle drivers
+    if (!startSpare() || !storedDrivers.contains(driver)) replaced.remove(driver);
+  }
+
+  /**
+   * starts a driver in the background and adds it to the idle drivers. It holds a slot like any
+   * other driver, so the pool never has more than -DmaxDrivers live sessions
+   *
+   * @return false if the pool had no free slot
+   */
+  private boolean startSpare() {
+    if (!sessions.tryAcquire()) return false;
+
+    recycler.execute(
+        () -> {
+          try {
+            idleDrivers.offerLast(create());
+          } catch (RuntimeException e) {
+            logger.warn(String.format("Replacement driver failed: %s", e.getMessage()));
+          }
+        });
+    return true;
+  }
+
+  /** frees the slot of a driver that left the pool */
+  private void releaseSlot(RemoteWebDriver driver) {
+    scenarioCounts.remove(driver);
+    memorySamples.remove(driver);
+    replaced.remove(driver);
+    sessions.release();
+  }
+
+  /**
+   * creates a new session for a slot that has already been acquired. The slot is released if the
+   * session could not be created.
+   */
+  private RemoteWebDriver create() {
+    try {
+      return startDriver();
+    } catch (RuntimeException e) {
+      sessions.release();
+      throw e;
+    }
+  }
+
+  /** starts a new session with the factory and adds it to the stored drivers */
+  private RemoteWebDriver startDriver() {
+    long start = System.nanoTime();
+    RemoteWebDriver driver = factory.get();
+
+    if (driver == null) {
+      throw new IllegalStateException(
+          border("Driver could not be created for device: [%s]", Config.getDeviceName()));
+    }
+
+    long startupMillis =
+        Timings.recordSince(String.format("driver start [%s]", Config.getDeviceName()), start);
+
+    storedDrivers.add(driver);
+    System.out.printf(
+        "[Thread %2d] Created and Added Driver: [%s] in [%sms] - Pool: [%s/%s]%n",
+        Thread.currentThread().getId(), driver, startupMillis, storedDrivers.size(), maxSize);
+    return driver;
+  }
+
+  /**
+   * waits for another thread to check in a driver
+   *
+   * @param deadline System.nanoTime() deadline to wait until
+   * @return checked in driver or null if a slot might have been freed by an eviction
+   */
+  private RemoteWebDriver awaitCheckin(long deadline) {
+    long remaining = deadline - System.nanoTime();
+
+    if (remaining <= 0) {
+      throw new IllegalStateException(
+          border(
+              "No driver was available after waiting [%ss]. All [%s] drivers are in use. "
+                  + "Increase -DmaxDrivers or -DdriverCheckoutTimeout",
+              Config.DRIVER_CHECKOUT_TIMEOUT, maxSize));
+    }
+
+    try {
+      // wakes up periodically since an eviction frees a slot without checking in a driver
+      long wait = Math.min(remaining, TimeUnit.SECONDS.toNanos(1));
+      return idleDrivers.pollFirst(wait, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for a driver", e);
+    }
+  }
+
+  /**
+   * probes the session with a cheap command before it is handed out
+   *
+   * @param driver driver to probe
+   * @return true if the browser responded
+   */
+  private boolean isAlive(RemoteWebDriver driver) {
+    if (driver.getSessionId() == null) return false;
+
+    try {
+      driver.getWindowHandle();
+      return true;
+    } catch (Exception e) {
+      logger.warn(String.format("Driver [%s] failed liveness probe: %s", driver, e.getMessage()));
+      return false;
+    }
+  }
+
+  private static void quitQuietly(RemoteWebDriver driver) {
+    try {
+      driver.quit();
+    } catch (Exception e) {
+      // session is already gone
+    }
+  }
+}
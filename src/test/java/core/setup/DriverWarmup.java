@@ -0,0 +1,42 @@
+package core.setup;
+
+import cucumber.api.event.ConcurrentEventListener;
+import cucumber.api.event.EventPublisher;
+import cucumber.api.event.TestRunStarted;
+import org.apache.logging.log4j.Logger;
+
+import java.net.MalformedURLException;
+
+import static core.utilities.Tools.logger;
+
+/**
+ * Cucumber plugin that starts drivers concurrently when the run starts so they are ready before the
+ * first scenario is scheduled. Register with: --add-plugin core.setup.DriverWarmup
+ *
+ * <p>-DwarmDrivers sets how many drivers to start. Defaults to -DmaxDrivers when running in
+ * parallel and 1 otherwise. 0 turns warm up off.
+ */
+public class DriverWarmup implements ConcurrentEventListener {
+  private static final Logger logger = logger(DriverWarmup.class);
+
+  @Override
+  public void setEventPublisher(EventPublisher publisher) {
+    publisher.registerHandlerFor(TestRunStarted.class, event -> warmUp());
+  }
+
+  /** starts the drivers. Failures are logged and drivers are created lazily by scenarios instead */
+  private void warmUp() {
+    logger.traceEntry();
+    if (Config.WARM_DRIVERS < 1) return;
+
+    try {
+      Config config = new Config();
+      config.setCapabilities();
+      Hooks.setupDriverEnvironment(config);
+      DriverPool.getPool().warmUp(Config.WARM_DRIVERS);
+    } catch (MalformedURLException | RuntimeException e) {
+      logger.warn(String.format("Driver warm up skipped: %s", e.getMessage()));
+    }
+    logger.traceExit();
+  }
+}
@@ -0,0 +1,116 @@
+package core.setup;
+
+import com.google.gson.GsonBuilder;
+import core.utilities.Timings;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static core.utilities.Tools.logger;
+import static core.utilities.Tools.readResource;
+
+/**
+ * Collects the DOM, url, viewport, browser console and screenshot of a failed scenario and writes
+ * them as one zip to TestResults/FailureBundles. The page state is read with one script and the
+ * console with one call. The screenshot is the one already taken for the report.
+ */
+public class FailureBundle {
+  private static final Logger logger = logger(FailureBundle.class);
+  private static final Path DIRECTORY = Paths.get("TestResults", "FailureBundles");
+  private static final String CAPTURE_PAGE_STATE = readResource("/js/capturePageState.js");
+
+  private FailureBundle() {
+    throw new IllegalStateException("Utility Class");
+  }
+
+  /**
+   * reads the page state on the calling thread and queues the bundle to be zipped and written
+   *
+   * @param driver driver of the failed scenario
+   * @param name file name of the bundle without extension
+   * @param screenshot screenshot taken for the failure or null if there is none
+   * @return path of the bundle that will be written
+   */
+  static Path capture(RemoteWebDriver driver, String name, byte[] screenshot) {
+    logger.traceEntry();
+    long start = System.nanoTime();
+
+    Map<String, byte[]> entries = new LinkedHashMap<>();
+    Map<String, Object> pageState = readPageState(driver);
+    Object dom = pageState.remove("dom");
+
+    if (dom != null) entries.put("page.html", dom.toString().getBytes(StandardCharsets.UTF_8));
+    entries.put(
+        "page.json",
+        new GsonBuilder()
+            .setPrettyPrinting()
+            .create()
+            .toJson(pageState)
+            .getBytes(StandardCharsets.UTF_8));
+    entries.put("console.log", readConsole(driver).getBytes(StandardCharsets.UTF_8));
+    if (screenshot != null) entries.put("screenshot.png", screenshot);
+
+    Timings.recordSince("failure bundle capture", start);
+
+    Path bundle = DIRECTORY.resolve(name + ".zip");
+    ScreenshotWriter.execute(() -> write(bundle, entries));
+    return logger.traceExit(bundle);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> readPageState(RemoteWebDriver driver) {
+    try {
+      Object state = driver.executeScript(CAPTURE_PAGE_STATE);
+      if (state instanceof Map) return new LinkedHashMap<>((Map<String, Object>) state);
+    } catch (WebDriverException e) {
+      logger.warn(String.format("Failure bundle could not read the page: %s", e.getMessage()));
+    }
+    return new LinkedHashMap<>();
+  }
+
+  /** @return browser console entries or why they could not be read. Not every driver has them */
+  private static String readConsole(RemoteWebDriver driver) {
+    try {
+      StringBuilder console = new StringBuilder();
+      for (LogEntry entry : driver.manage().logs().get(LogType.BROWSER)) {
+        console.append(entry).append(System.lineSeparator());
+      }
+      return console.toString();
+    } catch (WebDriverException | UnsupportedOperationException e) {
+      return String.format("Browser console logs are not available: %s", e.getMessage());
+    }
+  }
+
+  private static void write(Path bundle, Map<String, byte[]> entries) {
+    long start = System.nanoTime();
+
+    try {
+      Files.createDirectories(bundle.getParent());
+
+      try (OutputStream file = Files.newOutputStream(bundle);
+          ZipOutputStream zip = new ZipOutputStream(file)) {
+        for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+          zip.putNextEntry(new ZipEntry(entry.getKey()));
+          zip.write(entry.getValue());
+          zip.closeEntry();
+        }
+      }
+      Timings.recordSince("failure bundle write", start);
+    } catch (IOException e) {
+      logger.warn(String.format("Failed to write failure bundle [%s]: %s", bundle, e.getMessage()));
+    }
+  }
+}
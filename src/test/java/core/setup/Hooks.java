@@ -1,11 +1,17 @@
 package core.setup;
 
 import core.test.data.TestData;
+import core.test.data.UserPool;
+import core.utilities.ScenarioLogBuffer;
+import core.utilities.Timings;
 import core.utilities.Tools;
+import core.utilities.WaitBudget;
 import io.cucumber.core.api.Scenario;
 import io.cucumber.java.After;
 import io.cucumber.java.Before;
 import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.Assume;
 import org.junit.AssumptionViolatedException;
@@ -19,33 +25,34 @@ import java.io.File;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.logging.Level;
-import java.util.logging.Logger;
 
 import static core.utilities.Tools.logger;
 
 public class Hooks {
+  private static final Logger logger = logger(Hooks.class);
 
   public static ThreadLocal<Scenario> scenarios = new ThreadLocal<>();
   private boolean setup = false;
   private static boolean reportsCreated = false;
 
   private Config config;
-  private static TestData testData;
+  private static ThreadLocal<TestData> testData = new ThreadLocal<>();
+  private static ThreadLocal<String> leasedUsers = new ThreadLocal<>();
   private static SoftAssertions softAssert;
 
   static URL url;
   static DesiredCapabilities capabilities;
 
-  // drivers and storedDrivers needed for parallel runs with multiple threads.
+  // driver checked out from the DriverPool by each thread for the scenario it is running.
   private static ThreadLocal<RemoteWebDriver> drivers = new ThreadLocal<>();
-  static List<RemoteWebDriver> storedDrivers = new ArrayList<>();
+  private static final BrowserReset browserReset = BrowserReset.forName(Config.RESET_STRATEGY);
 
   public Hooks() {
-    logger().traceEntry();
-    logger().traceExit();
+    logger.traceEntry();
+    logger.traceExit();
   }
 
   /**
@@ -56,7 +63,7 @@ public class Hooks {
   @Before(order = 1)
   public void beforeScenario(Scenario scenario) throws MalformedURLException {
     Hooks.setScenario(scenario);
-    Logger.getLogger("org.openqa.selenium").setLevel(Level.OFF);
+    java.util.logging.Logger.getLogger("org.openqa.selenium").setLevel(Level.OFF);
     manageResults();
 
     config = new Config();
@@ -64,6 +71,7 @@ public class Hooks {
     config.setCapabilities();
     softAssert = new SoftAssertions();
     setupEnvironment();
+    WaitBudget.start(Config.SCENARIO_WAIT_BUDGET);
 
     if (config.parallel)
       System.out.printf(
@@ -71,13 +79,13 @@ public class Hooks {
           Thread.currentThread().getId(), Hooks.getScenario().getName());
 
     new CreateSharedDrivers();
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /** logic performed after scenario is complete */
   @After(order = 2)
   public void afterScenario() {
-    logger().traceEntry();
+    logger.traceEntry();
 
     try {
       if (!softAssert.errorsCollected().isEmpty()) softAssert.assertAll();
@@ -88,7 +96,9 @@ public class Hooks {
               "[Thread %2d] Running -> [Scenario: %s] - FAILED - (*_*)%n",
               Thread.currentThread().getId(), Hooks.getScenario().getName());
         }
-        takeScreenshot();
+        byte[] screenshot = takeScreenshot();
+        writeFailureLog();
+        if (Config.FAILURE_BUNDLE) writeFailureBundle(screenshot);
       }
 
       if (!softAssert.errorsCollected().isEmpty()) softAssert.assertAll();
@@ -103,23 +113,41 @@ public class Hooks {
 
       RemoteWebDriver driver = getDriver();
 
-      if (driver != null) {
+      if (driver instanceof WindowDriver) {
+        // cookies and storage are shared with the other windows of the browser so are not reset
+        BrowserWindows.release((WindowDriver) driver);
+        drivers.remove();
+      } else if (driver != null) {
+        boolean reusable = true;
+
         try {
-          driver.executeScript("window.sessionStorage.clear();");
-          driver.executeScript("window.localStorage.clear();");
-          driver.manage().deleteAllCookies();
+          long start = System.nanoTime();
+          browserReset.reset(driver);
+          long resetMillis =
+              Timings.recordSince(
+                  String.format("browser reset [%s]", Config.RESET_STRATEGY), start);
+          logger.info(String.format("Browser reset took [%sms]", resetMillis));
         } catch (Exception e) {
           System.out.printf(
-              "[Thread %2d] Driver [%s] will be quit. Storage clear failed",
+              "[Thread %2d] Driver [%s] will be quit. Storage clear failed%n",
               Thread.currentThread().getId(), driver);
-          Hooks.storedDrivers.remove(driver);
-          driver.quit();
+          reusable = false;
         }
+
+        DriverPool.getPool().checkin(driver, reusable);
+        drivers.remove();
       }
 
+      UserPool.release(leasedUsers.get());
+      leasedUsers.remove();
+
+      long waited = WaitBudget.clear();
+      if (waited > 0) Timings.record("scenario waits", waited);
+
       /* drivers are shutdown when the test run is completed from shutdown hook in CreateSharedDrivers */
       setup = false;
-      logger().traceExit();
+      logger.traceExit();
+      ThreadContext.remove("scenario");
     }
   }
 
@@ -132,64 +160,121 @@ public class Hooks {
    */
   private void setupEnvironment() throws MalformedURLException {
     if (!setup) {
-
-      url = new URL(config.getUrl());
-      logger().trace(String.format("URL is:%s", url));
-
-      capabilities = new DesiredCapabilities(config.getCapabilities());
-      logger().trace(String.format("Capabilities are:%s", capabilities));
-
+      setupDriverEnvironment(config);
       setup = true;
     }
 
-    testData = new TestData(Config.USER);
+    // a copy of the cached profile so scenarios on other threads never see each other's changes
+    leasedUsers.set(UserPool.lease());
+    testData.set(new TestData(leasedUsers.get()));
 
-    logger().traceExit();
+    logger.traceExit();
   }
 
-  /** takes screenshot in multiple formats */
-  public static void takeScreenshot() {
-    logger().traceEntry();
-    fileScreenshot();
-    embedScreenshot();
-    logger().traceExit();
+  /**
+   * Sets the url and capabilities used by CreateSharedDrivers to create drivers
+   *
+   * @param config config with capabilities set
+   * @throws MalformedURLException
+   */
+  static void setupDriverEnvironment(Config config) throws MalformedURLException {
+    url = new URL(config.getUrl());
+    logger.trace(String.format("URL is:%s", url));
+
+    capabilities = new DesiredCapabilities(config.getCapabilities());
+    logger.trace(String.format("Capabilities are:%s", capabilities));
   }
 
-  /** takes screenshot in file format */
-  private static void fileScreenshot() {
-    logger().traceEntry();
+  /**
+   * writes the events captured by the ScenarioLogBuffer to TestResults/logs/failures and embeds
+   * them in the report. Does nothing unless -DfailureLogLevel is set
+   */
+  private static void writeFailureLog() {
+    if (!ScenarioLogBuffer.isCapturing()) return;
+
+    byte[] log = ScenarioLogBuffer.dump().getBytes(StandardCharsets.UTF_8);
+    String fileName =
+        String.format("./TestResults/logs/failures/%s.log", ThreadContext.get("scenario"));
     try {
-      File scrFile = ((TakesScreenshot) Hooks.getDriver()).getScreenshotAs(OutputType.FILE);
-      String fileName =
+      FileUtils.writeByteArrayToFile(new File(fileName), log);
+    } catch (IOException e) {
+      System.out.println("Failed to write failure log");
+    }
+    Hooks.getScenario().embed(log, "text/plain");
+  }
+
+  /**
+   * queues the failure bundle of the scenario to be written and adds its path to the report
+   *
+   * @param screenshot screenshot already taken for the failure
+   */
+  private static void writeFailureBundle(byte[] screenshot) {
+    if (getDriver() == null) return;
+
+    Path bundle = FailureBundle.capture(getDriver(), ThreadContext.get("scenario"), screenshot);
+    Hooks.getScenario().write(String.format("Failure bundle: %s", bundle.toAbsolutePath()));
+  }
+
+  /**
+   * takes one screenshot, embeds it in the report and queues it to be written to
+   * TestResults/ScreenShots
+   *
+   * @return png bytes of the screenshot or null if it failed
+   */
+  public static byte[] takeScreenshot() {
+    logger.traceEntry();
+    byte[] screenshot = captureScreenshot();
+
+    if (screenshot != null) {
+      ScreenshotWriter.write(
+          screenshot,
           String.format(
-                  "./TestResults/ScreenShots/Feature_%s_Line%s_Time[%s].png",
-                  Hooks.getScenario().getName(),
-                  Hooks.getScenario().getLine(),
-                  Tools.getDate("hh-mm-ss", 0))
-              .replaceAll(" ", "-");
-
-      FileUtils.copyFile(scrFile, new File(fileName));
-    } catch (WebDriverException | IOException | NullPointerException e) {
-      System.out.println("Failed to take file Screenshot");
+              "Feature_%s_Line%s_Time[%s]",
+              Hooks.getScenario().getName(),
+              Hooks.getScenario().getLine(),
+              Tools.getDate("hh-mm-ss", 0)));
+      Hooks.getScenario().embed(screenshot, "image/png");
     }
+    return logger.traceExit(screenshot);
+  }
+
+  /**
+   * takes one screenshot and queues it to be written to TestResults/ScreenShots without embedding
+   *
+   * @param label what the screenshot was taken for. Listed next to the file in index.tsv
+   */
+  public static void fileScreenshot(String label) {
+    logger.traceEntry();
+    byte[] screenshot = captureScreenshot();
+    if (screenshot != null) ScreenshotWriter.write(screenshot, label);
+    logger.traceExit();
   }
 
   /** takes screenshot and embeds it */
   public static void embedScreenshot() {
-    logger().traceEntry();
+    logger.traceEntry();
+    byte[] screenshot = captureScreenshot();
+    if (screenshot != null) Hooks.getScenario().embed(screenshot, "image/png");
+    logger.traceExit();
+  }
+
+  /** @return png bytes of the current window or null if the screenshot failed */
+  private static byte[] captureScreenshot() {
+    long start = System.nanoTime();
+
     try {
-      final byte[] screenshot =
-          ((TakesScreenshot) Hooks.getDriver()).getScreenshotAs(OutputType.BYTES);
-      Hooks.getScenario().embed(screenshot, "image/png");
+      byte[] screenshot = ((TakesScreenshot) Hooks.getDriver()).getScreenshotAs(OutputType.BYTES);
+      Timings.recordSince("screenshot capture", start);
+      return screenshot;
     } catch (WebDriverException | NullPointerException e) {
-      System.out.println("Failed to take embed Screenshot");
+      System.out.println("Failed to take Screenshot");
+      return null;
     }
-    logger().traceExit();
   }
 
   /** removes previously created reports and temp files */
   private void manageResults() {
-    logger().traceEntry();
+    logger.traceEntry();
     if (!reportsCreated) {
       try {
         FileUtils.deleteDirectory(new File("./TestResults"));
@@ -204,13 +289,13 @@ public class Hooks {
       }
 
       reportsCreated = true;
-      logger().traceExit();
+      logger.traceExit();
     }
   }
 
   /** skips a scenario if not valid for current run */
   private void skipScenario(String errorReason) {
-    logger().traceEntry();
+    logger.traceEntry();
     try {
       Assume.assumeTrue(false);
     } catch (AssumptionViolatedException e) {
@@ -218,7 +303,7 @@ public class Hooks {
           Tools.border(
               "- Scenario: %s%n- Was skipped for: %s", Hooks.getScenario().getName(), errorReason));
     }
-    logger().traceExit();
+    logger.traceExit();
   }
   // </editor-fold>
 
@@ -226,41 +311,46 @@ public class Hooks {
   /** Skip Scenario if Tagged @wip */
   @Before("@wip")
   public void wipSkip() {
-    logger().traceEntry();
+    logger.traceEntry();
     skipScenario("being @wip");
-    logger().traceExit();
+    logger.traceExit();
   }
   // </editor-fold>-
 
   // <editor-fold desc="Get And Sets">
   public static SoftAssertions getSoftAssert() {
-    logger().traceEntry();
-    logger().traceExit(softAssert);
+    logger.traceEntry();
+    logger.traceExit(softAssert);
     return softAssert;
   }
 
   public static TestData getTestData() {
-    logger().traceEntry();
-    logger().traceExit(testData);
-    return testData;
+    logger.traceEntry();
+    logger.traceExit(testData);
+    return testData.get();
   }
 
-  public static void addDriver(RemoteWebDriver driver) {
-    storedDrivers.add(driver);
+  public static void setDriver(RemoteWebDriver driver) {
     drivers.set(driver);
-    System.out.printf(
-        "[Thread %2d] Created and Added Driver: [%s]%n",
-        Thread.currentThread().getId(), Hooks.getDriver());
   }
 
   public static RemoteWebDriver getDriver() {
-    logger().traceEntry();
-    logger().traceExit(drivers);
+    logger.traceEntry();
+    logger.traceExit(drivers);
     return drivers.get();
   }
 
+  /**
+   * sets the scenario of the current thread and routes its log events to
+   * TestResults/logs/scenarios/[name]_Line[line].log
+   */
   public static void setScenario(Scenario scenario) {
     scenarios.set(scenario);
+    ScenarioLogBuffer.clear();
+    ThreadContext.put(
+        "scenario",
+        String.format("%s_Line%s", scenario.getName(), scenario.getLine())
+            .replaceAll("[^\\w.-]+", "-"));
   }
 
   public static Scenario getScenario() {
@@ -0,0 +1,164 @@
+package core.setup;
+
+import core.utilities.Timings;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.InvalidArgumentException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static core.utilities.Tools.border;
+import static core.utilities.Tools.logger;
+
+/**
+ * Creates sessions on the selenium grid. Each attempt runs asynchronously and is given what is
+ * left of the -DsessionTimeout deadline, so time spent in the grid queue counts against the same
+ * budget as the retries. Failed attempts are retried with jittered exponential backoff and session
+ * start times are recorded per capability set.
+ */
+public class RemoteSessions {
+  private static final Logger logger = logger(RemoteSessions.class);
+  private static final ExecutorService REQUESTS =
+      Executors.newCachedThreadPool(
+          runnable -> {
+            Thread thread = new Thread(runnable, "remote-session");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private RemoteSessions() {
+    throw new IllegalStateException("Utility Class");
+  }
+
+  /**
+   * requests a new session, retrying up to -DsessionRetries times until -DsessionTimeout seconds
+   * have passed
+   *
+   * @param url selenium grid url
+   * @param capabilities capabilities of the session
+   * @return started session
+   */
+  static RemoteWebDriver create(URL url, Capabilities capabilities) {
+    logger.traceEntry();
+
+    String capabilitySet = describe(capabilities);
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(Config.SESSION_TIMEOUT);
+    WebDriverException lastFailure = null;
+
+    for (int attempt = 0; attempt <= Config.SESSION_RETRIES; attempt++) {
+      if (attempt > 0 && !backoff(attempt, deadline)) break;
+
+      long start = System.nanoTime();
+      try {
+        RemoteWebDriver driver = request(url, capabilities, deadline);
+        Timings.recordSince(String.format("remote session [%s]", capabilitySet), start);
+        return logger.traceExit(driver);
+      } catch (InvalidArgumentException e) {
+        // the grid will never accept these capabilities so retrying does not help
+        throw e;
+      } catch (WebDriverException e) {
+        Timings.recordSince(String.format("remote session failed [%s]", capabilitySet), start);
+        logger.warn(
+            String.format(
+                "Remote session attempt [%s/%s] for [%s] failed: %s",
+                attempt + 1, Config.SESSION_RETRIES + 1, capabilitySet, e.getMessage()));
+        lastFailure = e;
+      }
+    }
+
+    throw new IllegalStateException(
+        border(
+            "No remote session for [%s] could be created at [%s] within [%ss]. "
+                + "Increase -DsessionRetries or -DsessionTimeout",
+            capabilitySet, url, Config.SESSION_TIMEOUT),
+        lastFailure);
+  }
+
+  /**
+   * starts one session asynchronously and waits until the deadline. A session that starts after
+   * the deadline is quit so it does not hold a grid slot.
+   */
+  private static RemoteWebDriver request(URL url, Capabilities capabilities, long deadline) {
+    CompletableFuture<RemoteWebDriver> session =
+        CompletableFuture.supplyAsync(() -> startSession(url, capabilities), REQUESTS);
+
+    try {
+      return session.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      session.thenAccept(RemoteSessions::quitQuietly);
+      throw new WebDriverException("Session was not created before the deadline", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof WebDriverException) throw (WebDriverException) e.getCause();
+      throw new WebDriverException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      session.thenAccept(RemoteSessions::quitQuietly);
+      throw new IllegalStateException("Interrupted while waiting for a remote session", e);
+    }
+  }
+
+  private static RemoteWebDriver startSession(URL url, Capabilities capabilities) {
+    RemoteWebDriver driver = new RemoteWebDriver(url, capabilities);
+
+    try {
+      driver.manage().deleteAllCookies();
+    } catch (ElementNotInteractableException e) {
+      // Ignore Exception
+    } catch (RuntimeException e) {
+      // the session exists on the grid so it is quit instead of left to time out
+      quitQuietly(driver);
+      throw e;
+    }
+    return driver;
+  }
+
+  /**
+   * sleeps a random time up to the exponential backoff for the attempt so threads that failed
+   * together do not retry together
+   *
+   * @return false if the deadline would pass before the next attempt
+   */
+  private static boolean backoff(int attempt, long deadline) {
+    long ceiling = Config.SESSION_BACKOFF * (1L << Math.min(attempt - 1, 10));
+    long sleepMillis = ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+
+    if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sleepMillis) >= deadline) return false;
+
+    try {
+      Thread.sleep(sleepMillis);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /** @return browser, version and platform the session timings are grouped by */
+  private static String describe(Capabilities capabilities) {
+    return String.format(
+            "%s %s %s",
+            capabilities.getBrowserName(),
+            capabilities.getVersion(),
+            capabilities.getPlatform() == null ? "" : capabilities.getPlatform())
+        .replaceAll("\\s+", " ")
+        .trim();
+  }
+
+  private static void quitQuietly(RemoteWebDriver driver) {
+    try {
+      driver.quit();
+    } catch (Exception e) {
+      // session is already gone
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package core.setup;
+
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import static core.utilities.Tools.readResource;
+
+/** built in BrowserReset strategies */
+public enum ResetStrategy implements BrowserReset {
+
+  /**
+   * One script round trip for sessionStorage, localStorage, IndexedDB and Cache Storage, then
+   * deleteAllCookies so HttpOnly cookies are removed too. Two round trips.
+   */
+  COMBINED {
+    @Override
+    public void reset(RemoteWebDriver driver) {
+      driver.executeAsyncScript(ResetScript.SOURCE, false);
+      driver.manage().deleteAllCookies();
+    }
+  },
+
+  /**
+   * Everything in a single script round trip, including cookies. HttpOnly cookies can not be seen
+   * from a script and are NOT cleared, so only use this when login state is not kept in them.
+   */
+  SCRIPT {
+    @Override
+    public void reset(RemoteWebDriver driver) {
+      driver.executeAsyncScript(ResetScript.SOURCE, true);
+    }
+  },
+
+  /** the original three round trips: sessionStorage, localStorage then cookies */
+  LEGACY {
+    @Override
+    public void reset(RemoteWebDriver driver) {
+      driver.executeScript("window.sessionStorage.clear();");
+      driver.executeScript("window.localStorage.clear();");
+      driver.manage().deleteAllCookies();
+    }
+  };
+
+  /** holds the reset script so it is only read from the classpath once */
+  private static class ResetScript {
+    private static final String SOURCE = readResource("/js/resetBrowserState.js");
+  }
+}
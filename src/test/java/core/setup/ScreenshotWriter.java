@@ -0,0 +1,184 @@
+package core.setup;
+
+import core.utilities.Timings;
+import org.apache.logging.log4j.Logger;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static core.utilities.Tools.logger;
+
+/**
+ * Writes screenshots to disk on background threads so a failing scenario does not wait on file
+ * I/O. The queue is bounded: when it is full, or the pool has been drained, the scenario thread
+ * writes the screenshot itself, which slows it down instead of holding every pending screenshot in
+ * memory.
+ *
+ * <p>Failure bundles are written on the same pool.
+ *
+ * <p>Screenshots are stored by the hash of their content so identical screenshots are written
+ * once. TestResults/ScreenShots/index.tsv maps every screenshot that was taken to its file.
+ */
+public class ScreenshotWriter {
+  private static final Logger logger = logger(ScreenshotWriter.class);
+  private static final Path DIRECTORY = Paths.get("TestResults", "ScreenShots");
+  private static final Path INDEX = DIRECTORY.resolve("index.tsv");
+  private static final Set<String> WRITTEN = ConcurrentHashMap.newKeySet();
+  private static final ThreadPoolExecutor WRITERS =
+      new ThreadPoolExecutor(
+          Config.SCREENSHOT_WRITERS,
+          Config.SCREENSHOT_WRITERS,
+          30,
+          TimeUnit.SECONDS,
+          new ArrayBlockingQueue<>(Config.SCREENSHOT_QUEUE),
+          runnable -> {
+            Thread thread = new Thread(runnable, "screenshot-writer");
+            thread.setDaemon(true);
+            return thread;
+          },
+          // unlike CallerRunsPolicy this also writes on the caller once the pool has shut down
+          (write, executor) -> write.run());
+
+  static {
+    WRITERS.allowCoreThreadTimeOut(true);
+  }
+
+  private ScreenshotWriter() {
+    throw new IllegalStateException("Utility Class");
+  }
+
+  /**
+   * queues a screenshot to be written
+   *
+   * @param png screenshot bytes
+   * @param label what the screenshot was taken for. Written to the index next to the file name
+   */
+  static void write(byte[] png, String label) {
+    execute(() -> writeNow(png, label));
+  }
+
+  /**
+   * runs other failure artifact writes on the same bounded pool
+   *
+   * @param write task that writes to disk
+   */
+  static void execute(Runnable write) {
+    WRITERS.execute(write);
+  }
+
+  /**
+   * waits for the queued screenshots to be written. Called once the run is complete
+   *
+   * @param timeoutSeconds max time to wait
+   */
+  static void drain(long timeoutSeconds) {
+    WRITERS.shutdown();
+
+    try {
+      if (!WRITERS.awaitTermination(timeoutSeconds, TimeUnit.SECONDS)) {
+        System.out.printf(
+            "[Teardown] [%s] screenshots were not written within [%ss]%n",
+            WRITERS.getQueue().size() + WRITERS.getActiveCount(), timeoutSeconds);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (!WRITTEN.isEmpty()) {
+      System.out.printf("[Teardown] Unique screenshots written: [%s]%n", WRITTEN.size());
+    }
+  }
+
+  private static void writeNow(byte[] png, String label) {
+    long start = System.nanoTime();
+
+    try {
+      String fileName = String.format("%s.%s", hash(png), Config.SCREENSHOT_FORMAT);
+
+      if (WRITTEN.add(fileName)) {
+        try {
+          Files.createDirectories(DIRECTORY);
+          Files.write(DIRECTORY.resolve(fileName), encode(png), StandardOpenOption.CREATE_NEW);
+        } catch (FileAlreadyExistsException e) {
+          // written by an earlier run that did not clear TestResults
+        } catch (IOException e) {
+          // not written so the next identical screenshot tries again
+          WRITTEN.remove(fileName);
+          Files.deleteIfExists(DIRECTORY.resolve(fileName));
+          throw e;
+        }
+        Timings.recordSince("screenshot write", start);
+      } else {
+        Timings.recordSince("screenshot duplicate", start);
+      }
+      appendToIndex(fileName, label);
+    } catch (IOException e) {
+      logger.warn(String.format("Failed to write screenshot [%s]: %s", label, e.getMessage()));
+    }
+  }
+
+  private static synchronized void appendToIndex(String fileName, String label)
+      throws IOException {
+    Files.write(
+        INDEX,
+        String.format("%s\t%s%n", fileName, label).getBytes(StandardCharsets.UTF_8),
+        StandardOpenOption.CREATE,
+        StandardOpenOption.APPEND);
+  }
+
+  /**
+   * scales the screenshot by -DscreenshotScale and re-encodes it as -DscreenshotFormat. Returns it
+   * as is when neither is set
+   */
+  private static byte[] encode(byte[] png) throws IOException {
+    if (Config.SCREENSHOT_SCALE >= 1 && Config.SCREENSHOT_FORMAT.equals("png")) return png;
+
+    BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+    int width = Math.max(1, (int) (image.getWidth() * Math.min(1, Config.SCREENSHOT_SCALE)));
+    int height = Math.max(1, (int) (image.getHeight() * Math.min(1, Config.SCREENSHOT_SCALE)));
+
+    // jpg has no alpha channel
+    BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = scaled.createGraphics();
+    graphics.setRenderingHint(
+        RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+    graphics.drawImage(image, 0, 0, width, height, null);
+    graphics.dispose();
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    if (!ImageIO.write(scaled, Config.SCREENSHOT_FORMAT, out)) {
+      throw new IOException(
+          String.format("No image writer for -DscreenshotFormat [%s]", Config.SCREENSHOT_FORMAT));
+    }
+    return out.toByteArray();
+  }
+
+  /** @return first 128 bits of the SHA-256 of the bytes as hex */
+  private static String hash(byte[] bytes) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+      StringBuilder hex = new StringBuilder();
+      for (int i = 0; i < 16; i++) hex.append(String.format("%02x", digest[i]));
+      return hex.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package core.setup;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.ErrorCodes;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+
+import java.io.IOException;
+import java.util.Collections;
+
+/**
+ * A driver for one window of a browser that is shared with other scenarios. It uses the session of
+ * the host browser and every command, including commands sent by its elements, switches the host
+ * to this window first. Commands for the same browser are serialized so scenarios never see each
+ * other's window.
+ */
+public class WindowDriver extends RemoteWebDriver {
+
+  WindowDriver(BrowserWindows.Host host, String windowHandle) {
+    super(new WindowCommandExecutor(host, windowHandle), host.getDriver().getCapabilities());
+  }
+
+  /** uses the session of the host browser instead of starting a new one */
+  @Override
+  protected void startSession(Capabilities capabilities) {
+    setSessionId(getHost().getSessionId().toString());
+  }
+
+  @Override
+  public Capabilities getCapabilities() {
+    return getHost().getDriver().getCapabilities();
+  }
+
+  /** hands the window back to the host browser. The host is quit with the DriverPool */
+  @Override
+  public void quit() {
+    BrowserWindows.release(this);
+  }
+
+  /** @return handle of the window this driver is routed to */
+  String getWindowRoute() {
+    return ((WindowCommandExecutor) getCommandExecutor()).windowHandle;
+  }
+
+  BrowserWindows.Host getHost() {
+    return ((WindowCommandExecutor) getCommandExecutor()).host;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s -> window: [%s]", getHost().getDriver(), getWindowRoute());
+  }
+
+  /** sends commands through the host executor after switching the host to the window */
+  private static class WindowCommandExecutor implements CommandExecutor {
+    private final BrowserWindows.Host host;
+    private volatile String windowHandle;
+
+    private WindowCommandExecutor(BrowserWindows.Host host, String windowHandle) {
+      this.host = host;
+      this.windowHandle = windowHandle;
+    }
+
+    @Override
+    public Response execute(Command command) throws IOException {
+      synchronized (host) {
+        if (!windowHandle.equals(host.getFocusedWindow())) {
+          host.execute(
+              new Command(
+                  host.getSessionId(),
+                  DriverCommand.SWITCH_TO_WINDOW,
+                  Collections.singletonMap("handle", windowHandle)));
+          host.setFocusedWindow(windowHandle);
+        }
+
+        Response response = host.execute(command);
+
+        // a scenario that switches windows itself keeps being routed to the window it switched to
+        if (DriverCommand.SWITCH_TO_WINDOW.equals(command.getName())
+            && command.getParameters().get("handle") != null
+            && (response.getStatus() == null || response.getStatus() == ErrorCodes.SUCCESS)) {
+          windowHandle = command.getParameters().get("handle").toString();
+          host.setFocusedWindow(windowHandle);
+        }
+        return response;
+      }
+    }
+  }
+}
@@ -7,16 +7,25 @@ import core.setup.Config;
 import core.utilities.Tools;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static core.utilities.Tools.border;
 
 public class TestData {
+  // parsed profiles with the CLI data applied. Only copies of these are handed to scenarios
+  private static final Map<String, User> PROFILES = new ConcurrentHashMap<>();
+
   public final User user;
 
   public TestData(String username) {
-    this.user = setUserData(username);
-    setDataFromCliIfNotSet();
+    this.user = new User(PROFILES.computeIfAbsent(username, TestData::loadProfile));
   }
 
   public static class User {
@@ -26,32 +35,66 @@ public class TestData {
     public List<String> placeholderForListData;
     public PlaceholderForChildClassData childClass = new PlaceholderForChildClassData();
 
+    public User() {}
+
+    /** deep copy so a scenario can change its data without changing the cached profile */
+    User(User other) {
+      this.username = other.username;
+      this.password = other.password;
+      this.placeholderForOtherData = other.placeholderForOtherData;
+      this.placeholderForListData =
+          other.placeholderForListData == null
+              ? null
+              : new ArrayList<>(other.placeholderForListData);
+      this.childClass =
+          other.childClass == null ? null : new PlaceholderForChildClassData(other.childClass);
+    }
+
     public static class PlaceholderForChildClassData {
       public String childClassDataEX;
       public String childClassDataEX2;
+
+      public PlaceholderForChildClassData() {}
+
+      PlaceholderForChildClassData(PlaceholderForChildClassData other) {
+        this.childClassDataEX = other.childClassDataEX;
+        this.childClassDataEX2 = other.childClassDataEX2;
+      }
     }
   }
 
+  /**
+   * parses the profile and applies the CLI data. Runs once per username. The CLI credentials are
+   * not applied to pooled users, since every pooled user would log in as the same account
+   */
+  private static User loadProfile(String username) {
+    User user = setUserData(username);
+    if (!UserPool.isEnabled()) setDataFromCliIfNotSet(user);
+    return user;
+  }
+
   /**
    * parses and sets data from json
    *
    * @param username the name of the json file
    * @return created gson from parsed json
    */
-  private User setUserData(String username) {
-    InputStream file;
-    BufferedReader reader;
-    JsonElement jsonElement;
-
-    file = getClass().getResourceAsStream(String.format("/jsonData/%s.json", username));
-    reader = new BufferedReader(new InputStreamReader(file));
-    jsonElement = new JsonParser().parse(reader).getAsJsonObject();
+  private static User setUserData(String username) {
+    String path = String.format("/jsonData/%s.json", username);
+    InputStream file = TestData.class.getResourceAsStream(path);
+    if (file == null) throw new IllegalArgumentException(border("[%s] was not found", path));
 
-    return new Gson().fromJson(jsonElement, User.class);
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(file, StandardCharsets.UTF_8))) {
+      JsonElement jsonElement = new JsonParser().parse(reader).getAsJsonObject();
+      return new Gson().fromJson(jsonElement, User.class);
+    } catch (IOException e) {
+      throw new IllegalStateException(border("[%s] could not be read", path), e);
+    }
   }
 
   /** sets the data from the CLI data is entered there */
-  private void setDataFromCliIfNotSet() {
+  private static void setDataFromCliIfNotSet(User user) {
     user.username = Tools.setFromCLIifNotSet(user.username, Config.USERNAME);
     user.password = Tools.setFromCLIifNotSet(user.password, Config.PASSWORD);
   }
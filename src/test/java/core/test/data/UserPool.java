@@ -0,0 +1,130 @@
+package core.test.data;
+
+import core.setup.Config;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static core.utilities.Tools.border;
+import static core.utilities.Tools.logger;
+
+/**
+ * Leases the user profiles given with -DuserPool so parallel scenarios log in as different users.
+ * Free users are kept in a lock free queue. When every user is leased the scenario either waits
+ * for one to be released, or with -DuserPoolPolicy="grow" shares the user with the fewest leases.
+ * Without -DuserPool every scenario uses -Duser as before.
+ */
+public class UserPool {
+  private static final Logger logger = logger(UserPool.class);
+  private static final List<String> USERS =
+      Arrays.stream(Config.USER_POOL.split(","))
+          .map(String::trim)
+          .filter(user -> !user.isEmpty())
+          .distinct()
+          .collect(Collectors.toList());
+  private static final Queue<String> FREE_USERS = new ConcurrentLinkedQueue<>(USERS);
+  private static final Semaphore AVAILABLE = new Semaphore(USERS.size());
+  private static final Map<String, AtomicInteger> LEASES = new ConcurrentHashMap<>();
+
+  static {
+    USERS.forEach(user -> LEASES.put(user, new AtomicInteger()));
+  }
+
+  private UserPool() {
+    throw new IllegalStateException("Utility Class");
+  }
+
+  /** @return true if -DuserPool is set */
+  public static boolean isEnabled() {
+    return !USERS.isEmpty();
+  }
+
+  /**
+   * @return a user that is not used by any other scenario, or -Duser if the pool is not enabled.
+   *     Release it with {@link #release(String)} when the scenario is complete
+   */
+  public static String lease() {
+    logger.traceEntry();
+    if (!isEnabled()) return logger.traceExit(Config.USER);
+
+    while (true) {
+      if (AVAILABLE.tryAcquire()) return logger.traceExit(take());
+
+      if (!Config.USER_POOL_POLICY.equals("grow")) {
+        awaitUser();
+        return logger.traceExit(take());
+      }
+
+      String user = share();
+      if (user != null) return logger.traceExit(user);
+    }
+  }
+
+  /**
+   * returns a leased user to the pool. Does nothing for users that are not in the pool
+   *
+   * @param user user returned by {@link #lease()}
+   */
+  public static void release(String user) {
+    logger.traceEntry();
+    AtomicInteger leases = user == null ? null : LEASES.get(user);
+
+    // a shared user is only free again once every scenario using it has released it
+    if (leases != null && leases.decrementAndGet() == 0) {
+      FREE_USERS.offer(user);
+      AVAILABLE.release();
+    }
+    logger.traceExit();
+  }
+
+  private static void awaitUser() {
+    try {
+      if (!AVAILABLE.tryAcquire(Config.DRIVER_CHECKOUT_TIMEOUT, TimeUnit.SECONDS)) {
+        throw new IllegalStateException(
+            border(
+                "No user was free after waiting [%ss]. All [%s] users are leased: %s. "
+                    + "Add users to -DuserPool or set -DuserPoolPolicy=\"grow\"",
+                Config.DRIVER_CHECKOUT_TIMEOUT, USERS.size(), USERS));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for a user", e);
+    }
+  }
+
+  /** takes a free user after a permit was acquired */
+  private static String take() {
+    String user = FREE_USERS.poll();
+    LEASES.get(user).incrementAndGet();
+    return user;
+  }
+
+  /**
+   * adds a lease to the leased user with the fewest leases. Only users that are still leased are
+   * shared, since a user that was released in the meantime is free and back in the queue
+   *
+   * @return shared user or null if a user was released and can be taken instead
+   */
+  private static String share() {
+    String user =
+        USERS.stream()
+            .filter(name -> LEASES.get(name).get() > 0)
+            .min(Comparator.comparingInt(name -> LEASES.get(name).get()))
+            .orElse(null);
+
+    if (user == null || LEASES.get(user).getAndUpdate(n -> n > 0 ? n + 1 : n) == 0) return null;
+
+    logger.warn(String.format("Every user is leased. [%s] will be shared", user));
+    return user;
+  }
+}
@@ -0,0 +1,216 @@
+package core.test.pages.base;
+
+import core.utilities.Timings;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.AbstractAnnotations;
+import org.openqa.selenium.support.pagefactory.AjaxElementLocator;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static core.utilities.Tools.border;
+import static core.utilities.Tools.logger;
+
+/**
+ * Fields of a page object class indexed by name. Built once per class when its first page is
+ * created, so steps find elements with a hash lookup instead of reflection. Fields declared by
+ * superclasses are indexed too. When names clash the field of the most specific class wins, the
+ * same as field hiding in Java. Two fields of the same class whose names only differ in case or
+ * punctuation can not be told apart in a step, so the index fails with both names.
+ *
+ * <p>Names are matched ignoring case, spaces and punctuation so "Sign In Button", "sign in button"
+ * and "signInButton" all resolve the field signInButton.
+ *
+ * <p>The index also keeps the locator of every field PageFactory would decorate so pages are
+ * initialised without building them from the annotations again. PageFactory still creates the
+ * proxies, with the same AjaxElementLocator AjaxElementLocatorFactory(driver, 1) gives them.
+ */
+final class ElementIndex {
+  private static final Logger logger = logger(ElementIndex.class);
+  private static final MethodType GETTER_TYPE =
+      MethodType.methodType(Object.class, PageObjectBase.class);
+
+  private static final ClassValue<ElementIndex> INDEXES =
+      new ClassValue<ElementIndex>() {
+        @Override
+        protected ElementIndex computeValue(Class<?> type) {
+          return new ElementIndex(type);
+        }
+      };
+
+  private final Map<String, MethodHandle> getters;
+  private final List<Locator> locators;
+  private final Map<Field, Locator> locatorsByField;
+
+  private ElementIndex(Class<?> pageClass) {
+    long start = System.nanoTime();
+    Map<String, MethodHandle> getters = new HashMap<>();
+    Map<String, Field> indexed = new HashMap<>();
+    List<Locator> locators = new ArrayList<>();
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    for (Class<?> type = pageClass;
+        type != null && type != PageObjectBase.class;
+        type = type.getSuperclass()) {
+      for (Field field : type.getDeclaredFields()) {
+        if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) continue;
+
+        try {
+          field.setAccessible(true);
+          MethodHandle getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+          String name = normalize(field.getName());
+          Field clash = indexed.putIfAbsent(name, field);
+
+          if (clash == null) {
+            getters.put(name, getter);
+          } else if (clash.getDeclaringClass() == type) {
+            throw new IllegalStateException(
+                border(
+                    "Fields [%s] and [%s] of [%s] both match the element name [%s]. Rename one",
+                    clash.getName(), field.getName(), type.getSimpleName(), name));
+          }
+          // otherwise a subclass field with the same name hides this one
+
+          if (WebElement.class.isAssignableFrom(field.getType()) || isElementList(field)) {
+            locators.add(new Locator(field, getter));
+          }
+        } catch (IllegalAccessException | SecurityException e) {
+          logger.warn(String.format("Field [%s] can not be indexed: %s", field, e.getMessage()));
+        }
+      }
+    }
+    this.getters = Collections.unmodifiableMap(getters);
+    this.locators = Collections.unmodifiableList(locators);
+    this.locatorsByField =
+        locators.stream().collect(Collectors.toMap(locator -> locator.field, locator -> locator));
+    Timings.recordSince(String.format("element index [%s]", pageClass.getSimpleName()), start);
+  }
+
+  /** @return index of the fields of pageClass and its superclasses */
+  static ElementIndex of(Class<? extends PageObjectBase> pageClass) {
+    return INDEXES.get(pageClass);
+  }
+
+  /**
+   * sets every element and element list field of the page to a proxy that finds the element when it
+   * is used
+   *
+   * @param page page to initialise
+   * @param context driver or element the elements are searched from
+   */
+  void initElements(PageObjectBase page, SearchContext context) {
+    PageFactory.initElements(
+        new DefaultFieldDecorator(field -> createLocator(field, context)), page);
+  }
+
+  /** @return locator built from the cached locator of the field or null if it is not an element */
+  private ElementLocator createLocator(Field field, SearchContext context) {
+    Locator locator = locatorsByField.get(field);
+    return locator == null ? null : new AjaxElementLocator(context, 1, locator);
+  }
+
+  /**
+   * @param page page holding the element
+   * @param element element or element list read from a field of the page
+   * @return locator of the field holding the element or null if no element field holds it
+   */
+  By locatorOf(PageObjectBase page, Object element) {
+    for (Locator locator : locators) {
+      try {
+        if ((Object) locator.getter.invokeExact(page) == element) return locator.by;
+      } catch (Throwable e) {
+        // not a readable element field
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @param page page to read the field from
+   * @param name name of the field as written in the step
+   * @return value of the field
+   * @throws IllegalArgumentException if the page has no field with the name
+   */
+  Object get(PageObjectBase page, String name) {
+    MethodHandle getter = getters.get(normalize(name));
+    if (getter == null) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Element not found: [%s] in Class [%s]", name, page.getClass().getSimpleName()));
+    }
+
+    try {
+      return (Object) getter.invokeExact(page);
+    } catch (Throwable e) {
+      throw new IllegalStateException(
+          String.format("Failed to read element [%s] from [%s]", name, page.getClass()), e);
+    }
+  }
+
+  /** @return true for List&lt;WebElement&gt; fields annotated the way PageFactory decorates */
+  private static boolean isElementList(Field field) {
+    return List.class.isAssignableFrom(field.getType())
+        && field.getGenericType() instanceof ParameterizedType
+        && WebElement.class.equals(
+            ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0])
+        && (field.isAnnotationPresent(FindBy.class)
+            || field.isAnnotationPresent(FindBys.class)
+            || field.isAnnotationPresent(FindAll.class));
+  }
+
+  /** @return name lower cased with everything but letters and digits removed */
+  static String normalize(String name) {
+    StringBuilder builder = new StringBuilder(name.length());
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (Character.isLetterOrDigit(c)) builder.append(Character.toLowerCase(c));
+    }
+    return builder.toString();
+  }
+
+  /** locator of an element field. Built once and shared by the locators of every page instance */
+  private static class Locator extends AbstractAnnotations {
+    private final Field field;
+    private final MethodHandle getter;
+    private final By by;
+    private final boolean lookupCached;
+
+    private Locator(Field field, MethodHandle getter) {
+      Annotations annotations = new Annotations(field);
+      this.field = field;
+      this.getter = getter;
+      this.by = annotations.buildBy();
+      this.lookupCached = annotations.isLookupCached();
+    }
+
+    @Override
+    public By buildBy() {
+      return by;
+    }
+
+    @Override
+    public boolean isLookupCached() {
+      return lookupCached;
+    }
+  }
+}
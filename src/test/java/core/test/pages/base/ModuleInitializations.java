@@ -1,11 +1,55 @@
 package core.test.pages.base;
 
+import core.setup.Hooks;
 import core.test.pages.modules.ExampleModuleWeb;
+import io.cucumber.core.api.Scenario;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 public class ModuleInitializations {
+  private static final ThreadLocal<ModuleInitializations> current = new ThreadLocal<>();
+
+  private final Scenario scenario;
+  private final Map<Class<?>, PageObjectBase> modules = new HashMap<>();
+
+  public ModuleInitializations() {
+    this(Hooks.getScenario());
+  }
+
+  private ModuleInitializations(Scenario scenario) {
+    this.scenario = scenario;
+  }
+
+  /** @return modules of the scenario running on this thread */
+  static ModuleInitializations forScenario() {
+    ModuleInitializations modules = current.get();
+
+    if (modules == null || modules.scenario != Hooks.getScenario()) {
+      modules = new ModuleInitializations(Hooks.getScenario());
+      current.set(modules);
+    }
+    return modules;
+  }
 
   /** Module Initializations */
   public ExampleModuleWeb exampleModuleWeb() {
-    return new ExampleModuleWeb();
+    return module(ExampleModuleWeb.class, ExampleModuleWeb::new);
+  }
+
+  /**
+   * @param type class of the module
+   * @param constructor creates the module the first time it is used
+   * @return module created for this scenario
+   */
+  private <T extends PageObjectBase> T module(Class<T> type, Supplier<T> constructor) {
+    PageObjectBase module = modules.get(type);
+
+    if (module == null) {
+      module = constructor.get();
+      modules.put(type, module);
+    }
+    return type.cast(module);
   }
 }
@@ -2,35 +2,35 @@ package core.test.pages.base;
 
 import core.setup.Config;
 import core.setup.Hooks;
+import core.setup.WindowDriver;
 import core.test.data.TestData;
-import core.utilities.Tools;
+import core.utilities.AdaptiveWait;
+import core.utilities.BrowserWaits;
+import core.utilities.BrowserWaits.Condition;
+import core.utilities.ElementReads;
 import io.cucumber.datatable.DataTable;
-import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.Logger;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.Assert;
 import org.openqa.selenium.*;
 import org.openqa.selenium.remote.RemoteWebDriver;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.pagefactory.AjaxElementLocatorFactory;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.FluentWait;
 
-import java.io.File;
-import java.io.IOException;
-import java.lang.reflect.Field;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static core.utilities.Tools.*;
 import static java.lang.String.format;
 
 public abstract class PageObjectBase {
+  private static final Logger logger = logger(PageObjectBase.class);
   public RemoteWebDriver driver;
   public TestData data;
   public SoftAssertions soft = Hooks.getSoftAssert();
@@ -47,8 +47,7 @@ public abstract class PageObjectBase {
   }
 
   private void setAjaxDecorator() {
-    AjaxElementLocatorFactory decorator = new AjaxElementLocatorFactory(driver, 1);
-    PageFactory.initElements(decorator, this);
+    ElementIndex.of(getClass()).initElements(this, driver);
   }
 
   /**
@@ -60,33 +59,33 @@ public abstract class PageObjectBase {
   /** implement logic needed to navigate to the page this method is present on */
   public abstract void navigateHere();
 
-  /** Modules Initialization */
+  /** Modules Initialization. Modules are created once per scenario and shared by its pages */
   public ModuleInitializations module() {
-    logger().traceEntry();
+    logger.traceEntry();
 
-    ModuleInitializations moduleInitializations = new ModuleInitializations();
-    logger().traceExit(moduleInitializations);
+    ModuleInitializations moduleInitializations = ModuleInitializations.forScenario();
+    logger.traceExit(moduleInitializations);
     return moduleInitializations;
   }
 
   // <editor-fold desc="Action Methods">
   /** @param url to load with defined ENVIRONMENT */
   public void loadEnv(String url) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     Assert.assertTrue("The ENV given was incorrect or not found", url.contains(Config.getEnv()));
     driver.get(url);
     assertEquals(url, driver.getCurrentUrl());
-    logger().traceExit(url);
+    logger.traceExit(url);
   }
 
   /** @param element to scroll into view */
   public void scrollIntoView(WebElement element) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     driver.executeScript("arguments[0].scrollIntoView(true);", element);
 
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /**
@@ -94,22 +93,22 @@ public abstract class PageObjectBase {
    * @param value we want to set for the element
    */
   public void jsSetValue(WebElement element, String value) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     JavascriptExecutor js = driver;
     js.executeScript(String.format("arguments[0].value='%s';", value), element);
 
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /** @param element that we want to clear the value from */
   public void jsClear(WebElement element) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     JavascriptExecutor js = driver;
     js.executeScript("arguments[0].value = '';", element);
 
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /**
@@ -117,7 +116,7 @@ public abstract class PageObjectBase {
    *     JavascriptExecutor
    */
   public void click(WebElement element) {
-    Tools.logger().traceEntry();
+    logger.traceEntry();
 
     JavascriptExecutor jse = driver;
     try {
@@ -125,7 +124,7 @@ public abstract class PageObjectBase {
     } catch (Exception e) {
       jse.executeScript("arguments[0].click();", element);
     }
-    Tools.logger().traceExit();
+    logger.traceExit();
   }
 
   /**
@@ -134,7 +133,7 @@ public abstract class PageObjectBase {
    * @param amount how many times to click on elements Sequentially
    */
   public void clickSequentially(List<WebElement> elems, Integer index, Integer amount) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     int clicked = 0;
 
@@ -144,7 +143,7 @@ public abstract class PageObjectBase {
       index++;
     }
 
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /**
@@ -152,7 +151,7 @@ public abstract class PageObjectBase {
    * @param amount how many times to click on element
    */
   public void clickMultiple(WebElement element, Integer amount) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     int clicked = 0;
 
@@ -161,7 +160,7 @@ public abstract class PageObjectBase {
       clicked++;
     }
 
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /**
@@ -171,7 +170,7 @@ public abstract class PageObjectBase {
    * @param table DataTable provided from cucumber step
    */
   public void fillDataTableFields(DataTable table) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     table
         .asMaps()
@@ -185,7 +184,7 @@ public abstract class PageObjectBase {
                       getElement(header).sendKeys(replacedRandomCellValue);
                     }));
 
-    logger().traceExit();
+    logger.traceExit();
   }
   // </editor-fold>
 
@@ -199,10 +198,10 @@ public abstract class PageObjectBase {
    */
   @SuppressWarnings("unchecked")
   public WebElement getElement(String elementField) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     WebElement field = (WebElement) getField(elementField);
-    logger().traceExit(field);
+    logger.traceExit(field);
     return field;
   }
 
@@ -212,10 +211,10 @@ public abstract class PageObjectBase {
    */
   @SuppressWarnings("unchecked")
   public List<WebElement> getElements(String elementsField) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     List<WebElement> field = (List<WebElement>) getField(elementsField);
-    logger().traceExit(field);
+    logger.traceExit(field);
     return field;
   }
 
@@ -225,36 +224,25 @@ public abstract class PageObjectBase {
    */
   @SuppressWarnings("unchecked")
   public List<WebElement> getElements(List<String> elementFields) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     List<WebElement> list =
         elementFields.stream().map(this::getElement).distinct().collect(Collectors.toList());
-    logger().traceExit(list);
+    logger.traceExit(list);
     return list;
   }
 
   /**
-   * @param fieldName Name of declared field on page that will get camel cased
+   * @param fieldName Name of a field declared on the page or one of its superclasses. Case, spaces
+   *     and punctuation are ignored
    * @return Found field with param fieldName from class
    */
-  @SuppressWarnings("unchecked")
   private Object getField(String fieldName) {
-    logger().traceEntry();
-
-    String target = toCamelCase(fieldName);
-    Class aClass = null;
+    logger.traceEntry();
 
-    try {
-      aClass = getClass();
-      Field field = aClass.getDeclaredField(target);
-      field.setAccessible(true);
-      Object fieldFound = field.get(this);
-      logger().traceExit(fieldFound);
-      return fieldFound;
-    } catch (NoSuchFieldException | IllegalAccessException e) {
-      throw new IllegalArgumentException(
-          String.format("Element not found: [%s] in Class [%s]", target, aClass.getSimpleName()));
-    }
+    Object fieldFound = ElementIndex.of(getClass()).get(this, fieldName);
+    logger.traceExit(fieldFound);
+    return fieldFound;
   }
 
   /**
@@ -265,17 +253,20 @@ public abstract class PageObjectBase {
    * @return element found with text
    */
   public WebElement getElementWithText(List<WebElement> elements, String text) {
-    logger().traceEntry();
+    logger.traceEntry();
 
+    List<WebElement> found = new ArrayList<>(elements);
+    List<String> texts = texts(found);
     WebElement webElement =
-        elements.stream()
-            .filter(elem -> elem.getText().trim().equalsIgnoreCase(text))
+        IntStream.range(0, found.size())
+            .filter(i -> texts.get(i).trim().equalsIgnoreCase(text))
+            .mapToObj(found::get)
             .findFirst()
             .orElseThrow(
                 () ->
                     new NoSuchElementException(
                         String.format("Element Target Text was not found: [%s]", text)));
-    logger().traceExit(webElement);
+    logger.traceExit(webElement);
     return webElement;
   }
 
@@ -288,17 +279,20 @@ public abstract class PageObjectBase {
    */
   public WebElement getElementWithAttribute(
       List<WebElement> elements, String attribute, String attrValue) {
-    logger().traceEntry();
+    logger.traceEntry();
 
+    List<WebElement> found = new ArrayList<>(elements);
+    List<String> values = attributes(found, attribute);
     WebElement webElement =
-        elements.stream()
-            .filter(elem -> elem.getAttribute(attribute).trim().equalsIgnoreCase(attrValue))
+        IntStream.range(0, found.size())
+            .filter(i -> values.get(i) != null && values.get(i).trim().equalsIgnoreCase(attrValue))
+            .mapToObj(found::get)
             .findFirst()
             .orElseThrow(
                 () ->
                     new NoSuchElementException(
                         String.format("Element Attribute was not found: [%s]", attrValue)));
-    logger().traceExit(webElement);
+    logger.traceExit(webElement);
     return webElement;
   }
 
@@ -310,14 +304,14 @@ public abstract class PageObjectBase {
    * @return the elements found with target text
    */
   public List<WebElement> getElementsFromTextList(List<WebElement> elems, List<String> strings) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     List<WebElement> list =
         strings.stream()
             .map(text -> getElementWithText(elems, text))
             .distinct()
             .collect(Collectors.toList());
-    logger().traceExit(list);
+    logger.traceExit(list);
     return list;
   }
   // </editor-fold>
@@ -331,34 +325,69 @@ public abstract class PageObjectBase {
    * @return element to be chained off of EX:assertDisplayed(element, 5).click
    */
   public WebElement assertDisplayed(WebElement element, int waitSec) {
-    logger().traceEntry();
-
-    fluentWait(waitSec, 1)
-        .until(
-            ExpectedConditions.or(
-                ExpectedConditions.refreshed(ExpectedConditions.visibilityOf(element)),
-                ExpectedConditions.visibilityOf(element)));
+    logger.traceEntry();
+
+    int pollSeconds = waitInBrowser(element, Condition.VISIBLE, null, null, waitSec);
+    if (pollSeconds > 0) {
+      fluentWait("assertDisplayed", pollSeconds, 1)
+          .until(
+              ExpectedConditions.or(
+                  ExpectedConditions.refreshed(ExpectedConditions.visibilityOf(element)),
+                  ExpectedConditions.visibilityOf(element)));
+    }
 
-    logger().traceExit();
+    logger.traceExit();
     return element;
   }
 
   /**
-   * Assert all Element Displayed and return found elements
+   * Assert all Element Displayed and return found elements. Waits up to 1 second per element, the
+   * same budget as asserting each element on its own, capped at 3 minutes
    *
    * @param elements the WebElements we want to wait for to be displayed
    * @return elements to be chained off of EX:assertAllDisplayed(element, 5).get(0);
    */
   public List<WebElement> assertAllDisplayed(List<WebElement> elements) {
-    logger().traceEntry();
+    return assertAllDisplayed(elements, Math.max(1, Math.min(elements.size(), 180)));
+  }
 
+  /**
+   * Assert all Element Displayed and return found elements. The visibility of every element is
+   * read with one script call per poll, so the wait lasts as long as the page takes to show them
+   * however many there are. The script runs the same isDisplayed atom as WebElement isDisplayed
+   *
+   * @param elements the WebElements we want to wait for to be displayed
+   * @param waitSec how many seconds to wait for all of them
+   * @return elements to be chained off of EX:assertAllDisplayed(element, 5).get(0);
+   */
+  public List<WebElement> assertAllDisplayed(List<WebElement> elements, int waitSec) {
+    logger.traceEntry();
+
+    By locator = ElementIndex.of(getClass()).locatorOf(this, elements);
+    List<Integer> missing = new ArrayList<>();
     List<WebElement> list =
-        elements.stream()
-            .map(element -> assertDisplayed(element, 1))
-            .distinct()
-            .collect(Collectors.toList());
+        fluentWait("assertAllDisplayed", waitSec, 1)
+            .withMessage(
+                () ->
+                    format(
+                        "Elements at indexes %s of %s were not displayed",
+                        missing, locator == null ? "the list" : format("[%s]", locator)))
+            .until(
+                webDriver -> {
+                  // the list is copied every poll so elements replaced by the page are found again
+                  List<WebElement> found = new ArrayList<>(elements);
+                  List<Boolean> displayed = ElementReads.displayed(found, 1);
+
+                  missing.clear();
+                  IntStream.range(0, found.size())
+                      .filter(i -> !displayed.get(i))
+                      .forEach(missing::add);
+                  return missing.isEmpty()
+                      ? found.stream().distinct().collect(Collectors.toList())
+                      : null;
+                });
 
-    return logger().traceExit(list);
+    return logger.traceExit(list);
   }
 
   /**
@@ -371,10 +400,10 @@ public abstract class PageObjectBase {
    */
   public boolean doesElementContainAttribute(
       WebElement element, String attribute, String attrValue) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     boolean contains = element.getAttribute(attribute).contains(attrValue);
-    return logger().traceExit(contains);
+    return logger.traceExit(contains);
   }
 
   /**
@@ -387,16 +416,17 @@ public abstract class PageObjectBase {
    */
   public boolean assertElementsContainAttribute(
       List<WebElement> elements, String attribute, String attrValue) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     boolean result =
-        elements.stream().allMatch(elem -> elem.getAttribute(attribute).contains(attrValue));
-    return logger().traceExit(result);
+        attributes(elements, attribute).stream()
+            .allMatch(value -> value != null && value.contains(attrValue));
+    return logger.traceExit(result);
   }
 
   /** @param element to verify as non existing */
   public void assertElementDoesNotExist(WebElement element) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     try {
       element.isDisplayed();
@@ -405,7 +435,7 @@ public abstract class PageObjectBase {
       // Element does not exist
     }
 
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /**
@@ -414,13 +444,13 @@ public abstract class PageObjectBase {
    * @return true that the text was not found
    */
   public boolean assertTextNotFound(List<WebElement> elements, String text) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     Assert.assertTrue(
         String.format("Text was found: [%s]", text),
-        elements.stream().noneMatch(element -> element.getText().equalsIgnoreCase(text)));
+        texts(elements).stream().noneMatch(elementText -> elementText.equalsIgnoreCase(text)));
 
-    logger().traceExit();
+    logger.traceExit();
     return true;
   }
 
@@ -430,13 +460,13 @@ public abstract class PageObjectBase {
    * @return true that the text was found
    */
   public boolean assertTextFound(List<WebElement> elements, String text) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     Assert.assertTrue(
         String.format("Text was not found: [%s]", text),
-        elements.stream().anyMatch(element -> element.getText().equalsIgnoreCase(text)));
+        texts(elements).stream().anyMatch(elementText -> elementText.equalsIgnoreCase(text)));
 
-    logger().traceExit();
+    logger.traceExit();
     return true;
   }
 
@@ -446,13 +476,13 @@ public abstract class PageObjectBase {
    * @return true that the text was found
    */
   public void assertTextFoundSoftly(List<WebElement> elements, String text) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     assertIsTrueSoftly(
         String.format("Text was not found: [%s]", text),
-        elements.stream().anyMatch(element -> element.getText().equalsIgnoreCase(text)));
+        texts(elements).stream().anyMatch(elementText -> elementText.equalsIgnoreCase(text)));
 
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /**
@@ -462,12 +492,13 @@ public abstract class PageObjectBase {
    * @return true that the text was found
    */
   public void assertTextFoundSoftly(List<WebElement> elements, String text, String errMsg) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     assertIsTrueSoftly(
-        errMsg, elements.stream().anyMatch(element -> element.getText().equalsIgnoreCase(text)));
+        errMsg,
+        texts(elements).stream().anyMatch(elementText -> elementText.equalsIgnoreCase(text)));
 
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /**
@@ -475,11 +506,11 @@ public abstract class PageObjectBase {
    * @param text to verify is not found within list
    */
   public void assertTextNotFoundSoftly(List<String> strings, String text) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     soft.assertThat(strings.stream().noneMatch(string -> string.equalsIgnoreCase(text)));
 
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /**
@@ -487,13 +518,13 @@ public abstract class PageObjectBase {
    * @param text to verify is not found within list
    */
   public void assertTextNotFoundInStringList(List<String> strings, String text) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     Assert.assertTrue(
         String.format("Text was found: [%s]", text),
         strings.stream().noneMatch(string -> string.equalsIgnoreCase(text)));
 
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /**
@@ -501,7 +532,7 @@ public abstract class PageObjectBase {
    * @param text substring to find in elements
    */
   public void assertSubstringFoundInList(List<WebElement> elements, String text) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     List<String> targetText = Collections.singletonList(text);
     List<String> elementsText = buildStringListFromElemList(elements);
@@ -509,7 +540,7 @@ public abstract class PageObjectBase {
 
     valuesContained(substrings, targetText);
 
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /**
@@ -517,7 +548,7 @@ public abstract class PageObjectBase {
    * @param text to find contained within strings
    */
   public void assertTextContains(List<String> strings, String text) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     String substringBetweenBrackets;
     String formattedList;
@@ -532,7 +563,7 @@ public abstract class PageObjectBase {
 
     Assert.assertTrue(errorMsg, strings.stream().anyMatch(string -> string.contains(text)));
 
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /**
@@ -540,13 +571,13 @@ public abstract class PageObjectBase {
    * @param text to find contained within strings
    */
   public void assertTextContainsSoftly(List<String> strings, String text) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     assertIsTrueSoftly(
         String.format("List %s did not contain [%s]", strings, text),
         strings.stream().anyMatch(string -> string.contains(text)));
 
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /**
@@ -556,7 +587,7 @@ public abstract class PageObjectBase {
    * @param actual
    */
   public void assertEquals(Object expected, Object actual) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     String errorMsg =
         String.format(
@@ -564,7 +595,7 @@ public abstract class PageObjectBase {
             expected, actual);
     Assert.assertEquals(errorMsg, expected, actual);
 
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /**
@@ -575,7 +606,7 @@ public abstract class PageObjectBase {
    * @param errorMsg error message to use for this specifc soft assert if failed
    */
   public void assertIsTrueSoftly(String errorMsg, boolean condition) {
-    Tools.logger().traceEntry();
+    logger.traceEntry();
     String trace = null;
 
     if (!condition) {
@@ -594,7 +625,7 @@ public abstract class PageObjectBase {
     }
 
     soft.assertThat(condition).withFailMessage(format("%nError: %s%n%s", errorMsg, trace)).isTrue();
-    Tools.logger().traceExit();
+    logger.traceExit();
   }
 
   /**
@@ -603,21 +634,13 @@ public abstract class PageObjectBase {
    * @param throwable
    */
   private void takeSoftAssertFileScreenshot(Throwable throwable) {
-    try {
-      File scrFile = ((TakesScreenshot) Hooks.getDriver()).getScreenshotAs(OutputType.FILE);
-      String fileName =
-          String.format(
-                  "./TestResults/ScreenShots/Class[%s]_Method[%s]_Line[%s]_Time[%s].png",
-                  throwable.getStackTrace()[1].getClassName(),
-                  throwable.getStackTrace()[1].getMethodName(),
-                  throwable.getStackTrace()[1].getLineNumber(),
-                  getDate("hh-mm-ss", 0))
-              .replaceAll(" ", "-");
-
-      FileUtils.copyFile(scrFile, new File(fileName));
-    } catch (WebDriverException | IOException | NullPointerException e) {
-      System.out.println("Failed to take soft assert file Screenshot");
-    }
+    Hooks.fileScreenshot(
+        String.format(
+            "Class[%s]_Method[%s]_Line[%s]_Time[%s]",
+            throwable.getStackTrace()[1].getClassName(),
+            throwable.getStackTrace()[1].getMethodName(),
+            throwable.getStackTrace()[1].getLineNumber(),
+            getDate("hh-mm-ss", 0)));
   }
 
   /**
@@ -625,7 +648,7 @@ public abstract class PageObjectBase {
    * @param expectedValues to find contained within actualValues
    */
   public void valuesContained(List<String> actualValues, List<String> expectedValues) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     List<String> values = new ArrayList<>(expectedValues);
 
@@ -635,7 +658,7 @@ public abstract class PageObjectBase {
 
     Assert.assertTrue(errorMsg, actualValues.containsAll(values));
 
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /**
@@ -643,7 +666,7 @@ public abstract class PageObjectBase {
    * @param expectedValues to find NOT contained within actualValues
    */
   public void valuesNotContained(List<String> actualValues, List<String> expectedValues) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     List<String> values = new ArrayList<>(expectedValues);
 
@@ -653,7 +676,7 @@ public abstract class PageObjectBase {
 
     Assert.assertFalse(errorMsg, actualValues.containsAll(values));
 
-    logger().traceExit();
+    logger.traceExit();
   }
   // </editor-fold>
 
@@ -663,32 +686,27 @@ public abstract class PageObjectBase {
    * @param waitForSeconds time to wait for
    */
   public void waitForListLoad(List<WebElement> elements, Integer waitForSeconds) {
-    Tools.logger().traceEntry();
+    logger.traceEntry();
 
     boolean elementIsEmpty = false;
 
-    Tools.logger().info(String.format("Waiting [%ss] for list to load", waitForSeconds));
+    int pollSeconds = waitInBrowser(elements, Condition.LIST_NOT_EMPTY, null, null, waitForSeconds);
+    if (pollSeconds == 0) {
+      logger.traceExit();
+      return;
+    }
+
+    logger.info(String.format("Waiting [%ss] for list to load", pollSeconds));
     try {
-      elementIsEmpty = elements.isEmpty();
-      Assert.assertFalse(elementIsEmpty);
-
-    } catch (AssertionError | Exception e) {
-      AtomicInteger count = new AtomicInteger(0);
-
-      while (elementIsEmpty && count.get() <= waitForSeconds) {
-        try {
-          elementIsEmpty = elements.isEmpty();
-          Assert.assertFalse(elementIsEmpty);
-        } catch (AssertionError | Exception ex) {
-          sleep(1);
-        }
-      }
+      fluentWait("waitForListLoad", pollSeconds, 1).until(webDriver -> !elements.isEmpty());
+    } catch (TimeoutException e) {
+      elementIsEmpty = true;
     }
     Assert.assertFalse(
         String.format("List did not load after waiting [%s]", waitForSeconds.toString()),
         elementIsEmpty);
 
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /**
@@ -698,10 +716,11 @@ public abstract class PageObjectBase {
    * @param element to wait for staleness of
    */
   public void waitForNotStale(WebElement element, int seconds) {
-    logger().traceEntry();
-    fluentWait(seconds, 1).until(ExpectedConditions.not(ExpectedConditions.stalenessOf(element)));
+    logger.traceEntry();
+    fluentWait("waitForNotStale", seconds, 1)
+        .until(ExpectedConditions.not(ExpectedConditions.stalenessOf(element)));
     sleep((long) 500);
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /**
@@ -711,12 +730,12 @@ public abstract class PageObjectBase {
    * @param element to wait for staleness of
    */
   public void waitForRefresh(WebElement element, int seconds) {
-    logger().traceEntry();
+    logger.traceEntry();
 
-    fluentWait(seconds, 1)
+    fluentWait("waitForRefresh", seconds, 1)
         .until(ExpectedConditions.refreshed(ExpectedConditions.visibilityOf(element)));
 
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /**
@@ -724,30 +743,36 @@ public abstract class PageObjectBase {
    * @param seconds time to wait
    */
   public void waitForInvisibility(WebElement element, int seconds) {
-    logger().traceEntry();
+    logger.traceEntry();
 
-    fluentWait(seconds, 1).until(invisibilityOfElement(element));
+    int pollSeconds = waitInBrowser(element, Condition.INVISIBLE, null, null, seconds);
+    if (pollSeconds > 0) {
+      fluentWait("waitForInvisibility", pollSeconds, 1).until(invisibilityOfElement(element));
+    }
 
-    logger().traceExit();
+    logger.traceExit();
   }
 
-  /** seconds to sleep thread -> ONLY USE THIS WHEN ABSOLUTELY NECESSARY. KEEP AS PRIVATE!!! */
-  private void sleep(int seconds) {
-    logger().traceEntry();
+  /**
+   * @param element element to wait for the text in
+   * @param text text to wait for
+   * @param seconds time to wait
+   */
+  public void waitForText(WebElement element, String text, int seconds) {
+    logger.traceEntry();
 
-    int sec = seconds * 1000;
-    try {
-      Thread.sleep(sec);
-    } catch (InterruptedException e) {
-      e.printStackTrace();
+    int pollSeconds = waitInBrowser(element, Condition.TEXT_PRESENT, null, text, seconds);
+    if (pollSeconds > 0) {
+      fluentWait("waitForText", pollSeconds, 1)
+          .until(ExpectedConditions.textToBePresentInElement(element, text));
     }
 
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /** seconds to sleep thread -> ONLY USE THIS WHEN ABSOLUTELY NECESSARY. KEEP AS PRIVATE!!! */
   private void sleep(long milliseconds) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     try {
       Thread.sleep(milliseconds);
@@ -755,7 +780,7 @@ public abstract class PageObjectBase {
       e.printStackTrace();
     }
 
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /**
@@ -765,15 +790,15 @@ public abstract class PageObjectBase {
    * @return true if the element is not displayed or the element doesn't exist or stale element
    */
   public static ExpectedCondition<Boolean> invisibilityOfElement(final WebElement element) {
-    logger().traceEntry();
+    logger.traceEntry();
 
     return driver -> {
       try {
         boolean isDisplayed = !element.isDisplayed();
-        logger().traceExit(isDisplayed);
+        logger.traceExit(isDisplayed);
         return isDisplayed;
       } catch (NoSuchElementException | StaleElementReferenceException e) {
-        logger().traceExit(true);
+        logger.traceExit(true);
         return true;
       }
     };
@@ -787,12 +812,17 @@ public abstract class PageObjectBase {
    */
   public void waitForAttributeToBeContained(
       WebElement element, String attribute, String attributeToBe, int secondsToWait) {
-    logger().traceEntry();
-
-    fluentWait(secondsToWait, 1)
-        .until(ExpectedConditions.attributeContains(element, attribute, attributeToBe));
+    logger.traceEntry();
+
+    int pollSeconds =
+        waitInBrowser(
+            element, Condition.ATTRIBUTE_CONTAINS, attribute, attributeToBe, secondsToWait);
+    if (pollSeconds > 0) {
+      fluentWait("waitForAttributeToBeContained", pollSeconds, 1)
+          .until(ExpectedConditions.attributeContains(element, attribute, attributeToBe));
+    }
 
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /**
@@ -803,29 +833,48 @@ public abstract class PageObjectBase {
    */
   public void waitForAttributeToNotBeContained(
       WebElement element, String attribute, String attributeToBe, int secondsToWait) {
-    logger().traceEntry();
-
-    fluentWait(secondsToWait, 1)
-        .until(
-            ExpectedConditions.not(
-                ExpectedConditions.attributeContains(element, attribute, attributeToBe)));
+    logger.traceEntry();
+
+    int pollSeconds =
+        waitInBrowser(
+            element, Condition.ATTRIBUTE_NOT_CONTAINS, attribute, attributeToBe, secondsToWait);
+    if (pollSeconds > 0) {
+      fluentWait("waitForAttributeToNotBeContained", pollSeconds, 1)
+          .until(
+              ExpectedConditions.not(
+                  ExpectedConditions.attributeContains(element, attribute, attributeToBe)));
+    }
 
-    logger().traceExit();
+    logger.traceExit();
   }
 
   /**
    * @param seconds seconds to wait
-   * @param pollTime how often the condition should be evaluated
+   * @param pollTime longest time between evaluations of the condition. Polling starts at
+   *     -DpollStart milliseconds and backs off to this
    * @return chain of returned wait. IMPORTANT! -> must have .until(ExpectedConditions) or it will
    *     not wait
    */
   public FluentWait<WebDriver> fluentWait(Integer seconds, Integer pollTime) {
-    logger().traceEntry();
+    return fluentWait("fluentWait", seconds, pollTime);
+  }
+
+  /**
+   * @param label what is waited for, shown in the wait budget breakdown
+   * @param seconds seconds to wait
+   * @param pollTime longest time between evaluations of the condition. Polling starts at
+   *     -DpollStart milliseconds and backs off to this
+   * @return chain of returned wait. IMPORTANT! -> must have .until(ExpectedConditions) or it will
+   *     not wait
+   */
+  public FluentWait<WebDriver> fluentWait(String label, Integer seconds, Integer pollTime) {
+    logger.traceEntry();
 
     assertWaitLimit(seconds);
 
     FluentWait<WebDriver> fluentWait =
-        new FluentWait<WebDriver>(driver)
+        new AdaptiveWait<WebDriver>(driver, Duration.ofMillis(Config.POLL_START))
+            .withLabel(label)
             .withTimeout(Duration.ofSeconds(seconds))
             .pollingEvery(Duration.ofSeconds(pollTime))
             .ignoring(AssertionError.class)
@@ -836,15 +885,69 @@ public abstract class PageObjectBase {
       fluentWait.withMessage(
           "Time waited reached [3 minute] mark. Test was failed for taking too long.");
 
-    logger()
-        .info(
-            String.format(
-                "Waiting:[%ss] and pollingEvery:[%ss] for condition to be met", seconds, pollTime));
+    logger.info(
+        String.format(
+            "Waiting:[%ss] and polling every [%sms] up to [%ss] for condition to be met",
+            seconds, Config.POLL_START, pollTime));
 
-    logger().traceExit(fluentWait);
+    logger.traceExit(fluentWait);
     return fluentWait;
   }
 
+  /**
+   * waits inside the page with one round trip when -DbrowserWaits is set. Windows of a shared
+   * browser always poll, since a wait in the page would hold the browser for its other windows
+   *
+   * @param element element or element list field of this page
+   * @param condition condition to wait for
+   * @param attribute attribute for the attribute conditions or null
+   * @param value attribute value or text to look for or null
+   * @param seconds time to wait
+   * @return 0 if the condition was met, otherwise the seconds the wait should still be polled for
+   */
+  private int waitInBrowser(
+      Object element, Condition condition, String attribute, String value, int seconds) {
+    if (!Config.BROWSER_WAITS || driver instanceof WindowDriver) return seconds;
+
+    assertWaitLimit(seconds);
+    By locator = ElementIndex.of(getClass()).locatorOf(this, element);
+    if (locator == null && !(element instanceof WebElement)) return seconds;
+
+    long start = System.nanoTime();
+    try {
+      BrowserWaits.until(
+          driver,
+          locator,
+          element instanceof WebElement ? (WebElement) element : null,
+          condition,
+          attribute,
+          value,
+          seconds);
+      return 0;
+    } catch (TimeoutException e) {
+      throw e;
+    } catch (WebDriverException e) {
+      // e.g. the page navigated while waiting or the element could not be found to pass it
+      logger.info(String.format("Browser wait failed and will be polled: %s", e.getMessage()));
+
+      // only the time the page wait did not use is polled, rounded up to whole seconds
+      long leftMillis =
+          TimeUnit.SECONDS.toMillis(seconds)
+              - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      return (int) Math.max(1, (leftMillis + 999) / 1000);
+    }
+  }
+
+  /** @return text of the elements, read in one script call for lists of -DbulkReadThreshold */
+  private List<String> texts(List<WebElement> elements) {
+    return ElementReads.texts(elements, Config.BULK_READ_THRESHOLD);
+  }
+
+  /** @return attribute of the elements, read in one script call for lists of -DbulkReadThreshold */
+  private List<String> attributes(List<WebElement> elements, String attribute) {
+    return ElementReads.attributes(elements, attribute, Config.BULK_READ_THRESHOLD);
+  }
+
   private void assertWaitLimit(int seconds) {
     boolean timeToWaitIsLessThan3min = 0 < seconds && seconds < 181;
 
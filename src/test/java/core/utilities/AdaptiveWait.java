@@ -0,0 +1,132 @@
+package core.utilities;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * FluentWait that polls quickly at first and backs off. The first poll comes after -DpollStart
+ * milliseconds and every poll after that waits twice as long, up to the polling interval of the
+ * wait. A condition that is met after 50ms no longer costs a full polling interval, while long
+ * waits still poll at the interval. The time every wait took is recorded in Timings next to its
+ * timeout.
+ *
+ * <p>Deadlines are measured with System.nanoTime so clock changes do not affect them, and every
+ * wait draws its timeout from the {@link WaitBudget} of the scenario.
+ */
+public class AdaptiveWait<T> extends FluentWait<T> {
+  private final BackoffSleeper sleeper;
+  private Duration timeout = Duration.ofMillis(DEFAULT_SLEEP_TIMEOUT);
+  private String label = "condition";
+
+  public AdaptiveWait(T input, Duration firstPoll) {
+    this(input, new BackoffSleeper(firstPoll));
+  }
+
+  private AdaptiveWait(T input, BackoffSleeper sleeper) {
+    super(input, new MonotonicClock(), sleeper);
+    this.sleeper = sleeper;
+  }
+
+  @Override
+  public AdaptiveWait<T> withTimeout(Duration timeout) {
+    this.timeout = timeout;
+    super.withTimeout(timeout);
+    return this;
+  }
+
+  @Override
+  public AdaptiveWait<T> pollingEvery(Duration interval) {
+    sleeper.ceiling = interval;
+    super.pollingEvery(interval);
+    return this;
+  }
+
+  /**
+   * @param label what is waited for. Shown in the breakdown when the wait budget is used up
+   * @return this wait
+   */
+  public AdaptiveWait<T> withLabel(String label) {
+    this.label = label;
+    return this;
+  }
+
+  @Override
+  public <V> V until(Function<? super T, V> isTrue) {
+    Duration allowed = WaitBudget.allow(label, timeout);
+    long start = System.nanoTime();
+
+    super.withTimeout(allowed);
+    sleeper.reset(start + allowed.toNanos());
+
+    try {
+      V value = super.until(isTrue);
+      Timings.recordSince(String.format("wait met [%ss timeout]", timeout.getSeconds()), start);
+      WaitBudget.spend(label, System.nanoTime() - start);
+      return value;
+    } catch (TimeoutException e) {
+      Timings.recordSince(
+          String.format("wait timed out [%ss timeout]", timeout.getSeconds()), start);
+      WaitBudget.spend(label, System.nanoTime() - start);
+
+      if (allowed.compareTo(timeout) < 0) throw WaitBudget.exceeded(label);
+      throw e;
+    }
+  }
+
+  /** sleeps for a doubling duration instead of the polling interval FluentWait asks for */
+  private static class BackoffSleeper implements Sleeper {
+    private static final Duration MIN_POLL = Duration.ofMillis(1);
+    private final Duration firstPoll;
+    private Duration ceiling = Duration.ofSeconds(1);
+    private Duration next;
+    private long deadline;
+
+    private BackoffSleeper(Duration firstPoll) {
+      // a zero first poll would never back off and flood the driver with requests
+      this.firstPoll = firstPoll.compareTo(MIN_POLL) < 0 ? MIN_POLL : firstPoll;
+      this.next = this.firstPoll;
+    }
+
+    private void reset(long deadline) {
+      this.next = firstPoll;
+      this.deadline = deadline;
+    }
+
+    @Override
+    public void sleep(Duration interval) throws InterruptedException {
+      Duration duration = next.compareTo(ceiling) < 0 ? next : ceiling;
+      next = duration.multipliedBy(2);
+
+      // never sleeps past the deadline so the condition is checked one last time when it is reached
+      long remaining = deadline - System.nanoTime();
+      TimeUnit.NANOSECONDS.sleep(Math.max(0, Math.min(duration.toNanos(), remaining)));
+    }
+  }
+
+  /** clock FluentWait computes its deadline with. Based on System.nanoTime so it never jumps */
+  private static class MonotonicClock extends Clock {
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return Instant.ofEpochSecond(0, System.nanoTime());
+    }
+  }
+}
@@ -0,0 +1,151 @@
+package core.utilities;
+
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static core.utilities.Tools.logger;
+import static core.utilities.Tools.readResource;
+
+/**
+ * Waits that run inside the page. The condition is checked by a MutationObserver every time the
+ * DOM changes, so the whole wait is one executeAsyncScript round trip instead of one round trip
+ * per poll.
+ *
+ * <p>Elements are found in the page by their locator when it can be read from the element's
+ * annotation, so the wait also works for elements that do not exist yet or are replaced while
+ * waiting. Otherwise the element itself is passed to the script.
+ */
+public class BrowserWaits {
+  private static final Logger logger = logger(BrowserWaits.class);
+  private static final String WAIT_FOR_CONDITION = readResource("/js/waitForCondition.js");
+  private static final Pattern LOCATOR = Pattern.compile("By\\.(\\w+): (.*)", Pattern.DOTALL);
+  // W3C default script timeout. Nothing else in the framework changes it
+  private static final long DEFAULT_SCRIPT_TIMEOUT_MS = 30_000;
+  // time the script gets on top of the wait so the page always times out before the driver does
+  private static final long SCRIPT_TIMEOUT_MARGIN_MS = 5_000;
+
+  /** conditions the page can wait for. The names match the conditions in waitForCondition.js */
+  public enum Condition {
+    VISIBLE("visible"),
+    INVISIBLE("invisible"),
+    ATTRIBUTE_CONTAINS("attributeContains"),
+    ATTRIBUTE_NOT_CONTAINS("attributeNotContains"),
+    TEXT_PRESENT("textPresent"),
+    LIST_NOT_EMPTY("listNotEmpty");
+
+    private final String script;
+
+    Condition(String script) {
+      this.script = script;
+    }
+  }
+
+  private BrowserWaits() {
+    throw new IllegalStateException("Utility Class");
+  }
+
+  /**
+   * waits in the page until the condition is met
+   *
+   * @param driver driver of the page
+   * @param locator locator of the element or list or null to use the element
+   * @param element element to check when there is no locator. Ignored when there is one
+   * @param condition condition to wait for
+   * @param attribute attribute for the attribute conditions or null
+   * @param value attribute value or text the condition looks for or null
+   * @param seconds max time to wait
+   * @throws TimeoutException if the condition was not met in time
+   */
+  public static void until(
+      RemoteWebDriver driver,
+      By locator,
+      WebElement element,
+      Condition condition,
+      String attribute,
+      String value,
+      int seconds) {
+    logger.traceEntry();
+
+    String label = String.format("browser %s", condition);
+    Duration timeout = Duration.ofSeconds(seconds);
+    Duration allowed = WaitBudget.allow(label, timeout);
+    long start = System.nanoTime();
+
+    String[] selector = toSelector(locator);
+    long scriptTimeout = allowed.toMillis() + SCRIPT_TIMEOUT_MARGIN_MS;
+    boolean raiseTimeout = scriptTimeout > DEFAULT_SCRIPT_TIMEOUT_MS;
+    Object met;
+
+    // only waits longer than the default script timeout change it, and they put it back after
+    if (raiseTimeout) setScriptTimeout(driver, scriptTimeout);
+    try {
+      met =
+          driver.executeAsyncScript(
+              WAIT_FOR_CONDITION,
+              condition.script,
+              selector == null ? element : null,
+              selector == null ? null : selector[0],
+              selector == null ? null : selector[1],
+              attribute,
+              value,
+              allowed.toMillis());
+    } finally {
+      if (raiseTimeout) setScriptTimeout(driver, DEFAULT_SCRIPT_TIMEOUT_MS);
+      WaitBudget.spend(label, System.nanoTime() - start);
+    }
+
+    if (!Boolean.TRUE.equals(met)) {
+      Timings.recordSince(String.format("browser wait timed out [%ss timeout]", seconds), start);
+      if (allowed.compareTo(timeout) < 0) throw WaitBudget.exceeded(label);
+      throw new TimeoutException(
+          String.format(
+              "Expected condition failed: waiting in browser for [%s] of [%s] "
+                  + "(tried for %s second(s))",
+              condition, locator == null ? element : locator, seconds));
+    }
+
+    Timings.recordSince(String.format("browser wait met [%ss timeout]", seconds), start);
+    logger.traceExit();
+  }
+
+  /**
+   * @param locator locator to convert
+   * @return selector type and selector the script can query with or null if it can not. Class
+   *     names with spaces are left to the driver because getElementsByClassName would match them
+   *     as several classes where By.className does not
+   */
+  static String[] toSelector(By locator) {
+    if (locator == null) return null;
+
+    Matcher matcher = LOCATOR.matcher(locator.toString());
+    if (!matcher.matches()) return null;
+
+    switch (matcher.group(1)) {
+      case "cssSelector":
+        return new String[] {"css", matcher.group(2)};
+      case "className":
+        return matcher.group(2).trim().matches(".*\\s.*")
+            ? null
+            : new String[] {matcher.group(1), matcher.group(2)};
+      case "xpath":
+      case "id":
+      case "name":
+      case "tagName":
+        return new String[] {matcher.group(1), matcher.group(2)};
+      default:
+        return null;
+    }
+  }
+
+  private static void setScriptTimeout(RemoteWebDriver driver, long millis) {
+    driver.manage().timeouts().setScriptTimeout(millis, TimeUnit.MILLISECONDS);
+  }
+}
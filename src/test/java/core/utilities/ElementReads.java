@@ -0,0 +1,114 @@
+package core.utilities;
+
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static core.utilities.Tools.logger;
+import static core.utilities.Tools.readResource;
+
+/**
+ * Reads the text, an attribute or the visibility of a list of elements. Lists with at least
+ * threshold elements are read with one executeScript call instead of one call per element.
+ *
+ * <p>A list field initialised by PageFactory finds its elements again every time it is used. Pass
+ * a copy of it when the values are matched back to elements by index so both refer to the same
+ * elements.
+ */
+public class ElementReads {
+  private static final Logger logger = logger(ElementReads.class);
+  private static final String READ_ELEMENTS =
+      atom("isDisplayed") + atom("getAttribute") + readResource("/js/readElements.js");
+
+  private ElementReads() {
+    throw new IllegalStateException("Utility Class");
+  }
+
+  /**
+   * @param elements elements to read
+   * @param threshold smallest list read with one script call. Less than 1 always reads per element
+   * @return text of every element in order, the same as getText
+   */
+  public static List<String> texts(List<WebElement> elements, int threshold) {
+    List<Object> values = readValues(elements, threshold, "text", null, WebElement::getText);
+    return values.stream().map(value -> Objects.toString(value, "")).collect(Collectors.toList());
+  }
+
+  /**
+   * @param elements elements to read
+   * @param attribute attribute or property to read
+   * @param threshold smallest list read with one script call. Less than 1 always reads per element
+   * @return value of the attribute for every element in order or null where it is not set, the
+   *     same as getAttribute
+   */
+  public static List<String> attributes(
+      List<WebElement> elements, String attribute, int threshold) {
+    List<Object> values =
+        readValues(
+            elements, threshold, "attribute", attribute, elem -> elem.getAttribute(attribute));
+    return values.stream().map(value -> Objects.toString(value, null)).collect(Collectors.toList());
+  }
+
+  /**
+   * @param elements elements to read
+   * @param threshold smallest list read with one script call. Less than 1 always reads per element
+   * @return whether each element is displayed in order, the same as isDisplayed
+   */
+  public static List<Boolean> displayed(List<WebElement> elements, int threshold) {
+    List<Object> values = readValues(elements, threshold, "visible", null, WebElement::isDisplayed);
+    return values.stream().map(Boolean.TRUE::equals).collect(Collectors.toList());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Object> readValues(
+      List<WebElement> elements,
+      int threshold,
+      String what,
+      String attribute,
+      Function<WebElement, Object> perElement) {
+    logger.traceEntry();
+
+    List<WebElement> found = new ArrayList<>(elements);
+    JavascriptExecutor executor =
+        threshold < 1 || found.size() < threshold ? null : executorOf(found.get(0));
+
+    if (executor == null) {
+      return logger.traceExit(found.stream().map(perElement).collect(Collectors.toList()));
+    }
+
+    long start = System.nanoTime();
+    List<Object> values =
+        (List<Object>) executor.executeScript(READ_ELEMENTS, found, what, attribute);
+    Timings.recordSince(String.format("bulk read [%s]", what), start);
+    return logger.traceExit(values);
+  }
+
+  /** @return declaration of the Selenium atom the remote driver bundles under that name */
+  private static String atom(String name) {
+    String source = readResource(String.format("/org/openqa/selenium/remote/%s.js", name));
+    return String.format("var %s = %s;%n", name, source.trim());
+  }
+
+  /** @return driver the element was found with or null if it can not run scripts */
+  private static JavascriptExecutor executorOf(WebElement element) {
+    WebElement unwrapped = element;
+    while (unwrapped instanceof WrapsElement) {
+      WebElement wrapped = ((WrapsElement) unwrapped).getWrappedElement();
+      if (wrapped == unwrapped) break;
+      unwrapped = wrapped;
+    }
+
+    if (!(unwrapped instanceof WrapsDriver)) return null;
+    WebDriver driver = ((WrapsDriver) unwrapped).getWrappedDriver();
+    return driver instanceof JavascriptExecutor ? (JavascriptExecutor) driver : null;
+  }
+}
@@ -0,0 +1,156 @@
+package core.utilities;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import static core.utilities.Tools.border;
+
+/**
+ * Keeps the latest log events of each thread in memory so the verbose log of a scenario is only
+ * written when it fails. Events are copied into a fixed size ring per thread without any I/O and
+ * without locking. Enabled with -DfailureLogLevel, which lowers the logger level to capture the
+ * verbose events while the console and log files keep the -DlogLevel they had.
+ */
+@Plugin(
+    name = "ScenarioLogBuffer",
+    category = Core.CATEGORY_NAME,
+    elementType = Appender.ELEMENT_TYPE)
+public class ScenarioLogBuffer extends AbstractAppender {
+  private static final ThreadLocal<Ring> RINGS = new ThreadLocal<>();
+  private static volatile ScenarioLogBuffer instance;
+  private static volatile boolean capturing = false;
+
+  private final int size;
+
+  private ScenarioLogBuffer(
+      String name, Filter filter, Layout<? extends Serializable> layout, int size) {
+    super(name, filter, layout, true, Property.EMPTY_ARRAY);
+    this.size = size;
+  }
+
+  @PluginFactory
+  public static ScenarioLogBuffer createAppender(
+      @PluginAttribute("name") String name,
+      @PluginAttribute(value = "size", defaultInt = 2000) int size,
+      @PluginElement("Layout") Layout<? extends Serializable> layout,
+      @PluginElement("Filter") Filter filter) {
+    if (layout == null) layout = PatternLayout.createDefaultLayout();
+    instance = new ScenarioLogBuffer(name, filter, layout, Math.max(1, size));
+    return instance;
+  }
+
+  @Override
+  public void append(LogEvent event) {
+    if (!capturing) return;
+
+    Ring ring = RINGS.get();
+    if (ring == null) {
+      ring = new Ring(size);
+      RINGS.set(ring);
+    }
+    ring.add(event.toImmutable());
+  }
+
+  /**
+   * Lowers the root logger to the level so its events reach the buffer. The appenders the root
+   * logger already had only keep receiving events at the level the root logger had before.
+   *
+   * @param level verbose level to capture or "off"
+   */
+  public static void capture(String level) {
+    Level captureLevel = Level.toLevel(level.toUpperCase(), null);
+
+    if (captureLevel == null) {
+      throw new IllegalArgumentException(
+          border("[%s] is not a valid -DfailureLogLevel. Use debug, trace or off", level));
+    }
+    if (captureLevel == Level.OFF || instance == null) return;
+
+    LoggerContext context = (LoggerContext) LogManager.getContext(false);
+    Configuration configuration = context.getConfiguration();
+    LoggerConfig root = configuration.getRootLogger();
+    Level outputLevel = root.getLevel();
+
+    if (captureLevel.isLessSpecificThan(outputLevel)) {
+      for (Appender appender : root.getAppenders().values()) {
+        if (appender == instance) continue;
+        root.removeAppender(appender.getName());
+        root.addAppender(appender, outputLevel, null);
+      }
+      root.setLevel(captureLevel);
+      context.updateLoggers();
+    }
+    capturing = true;
+  }
+
+  /** @return true if events are captured for failed scenarios */
+  public static boolean isCapturing() {
+    return capturing;
+  }
+
+  /** forgets the events captured on this thread. Called when a scenario starts */
+  public static void clear() {
+    Ring ring = RINGS.get();
+    if (ring != null) ring.clear();
+  }
+
+  /** @return events captured on this thread since it was last cleared, formatted by the layout */
+  public static String dump() {
+    Ring ring = RINGS.get();
+    if (ring == null || instance == null) return "";
+
+    StringBuilder builder = new StringBuilder();
+    if (ring.isOverwritten()) {
+      builder.append(String.format("... only the last [%s] events are kept%n", ring.events.length));
+    }
+    ring.forEach(event -> builder.append(instance.getLayout().toSerializable(event)));
+    return builder.toString();
+  }
+
+  /** fixed size buffer that overwrites its oldest event. Only used by the thread that owns it */
+  private static class Ring {
+    private final LogEvent[] events;
+    private long written = 0;
+
+    private Ring(int size) {
+      events = new LogEvent[size];
+    }
+
+    private void add(LogEvent event) {
+      events[(int) (written++ % events.length)] = event;
+    }
+
+    private boolean isOverwritten() {
+      return written > events.length;
+    }
+
+    private void forEach(Consumer<LogEvent> action) {
+      long start = Math.max(0, written - events.length);
+      for (long i = start; i < written; i++) action.accept(events[(int) (i % events.length)]);
+    }
+
+    private void clear() {
+      Arrays.fill(events, null);
+      written = 0;
+    }
+  }
+}
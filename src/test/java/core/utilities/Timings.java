@@ -0,0 +1,111 @@
+package core.utilities;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.String.format;
+
+/**
+ * Run wide timing histograms. Threads record durations under a name and the collected timings are
+ * printed once the run is complete.
+ */
+public class Timings {
+  private static final long[] BUCKET_BOUNDS_MS = {
+    1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 20000, 60000, Long.MAX_VALUE
+  };
+  private static final Map<String, Histogram> HISTOGRAMS = new ConcurrentSkipListMap<>();
+
+  private Timings() {
+    throw new IllegalStateException("Utility Class");
+  }
+
+  /**
+   * records a duration
+   *
+   * @param name name of what was timed. Durations with the same name are grouped together
+   * @param nanos duration in nanoseconds
+   */
+  public static void record(String name, long nanos) {
+    HISTOGRAMS.computeIfAbsent(name, key -> new Histogram()).record(nanos);
+  }
+
+  /**
+   * records the time elapsed since startNanos
+   *
+   * @param name name of what was timed
+   * @param startNanos System.nanoTime() taken when timing started
+   * @return elapsed milliseconds
+   */
+  public static long recordSince(String name, long startNanos) {
+    long elapsed = System.nanoTime() - startNanos;
+    record(name, elapsed);
+    return TimeUnit.NANOSECONDS.toMillis(elapsed);
+  }
+
+  /** @return table of every recorded timing or empty string if nothing was recorded */
+  public static String report() {
+    if (HISTOGRAMS.isEmpty()) return "";
+
+    StringBuilder builder = new StringBuilder(format("Timings (ms)%n"));
+    HISTOGRAMS.forEach((name, histogram) -> builder.append(histogram.summary(name)));
+    return builder.toString();
+  }
+
+  /** prints the timings report with a border if anything was recorded */
+  public static void printReport() {
+    String report = report();
+    if (!report.isEmpty()) System.out.println(Tools.border(report.trim()));
+  }
+
+  /** fixed bucket histogram that can be recorded into from multiple threads without locking */
+  private static class Histogram {
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MS.length];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    private Histogram() {
+      for (int i = 0; i < buckets.length; i++) buckets[i] = new LongAdder();
+    }
+
+    private void record(long nanos) {
+      long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+      int bucket = 0;
+
+      while (millis > BUCKET_BOUNDS_MS[bucket]) bucket++;
+
+      buckets[bucket].increment();
+      count.increment();
+      totalNanos.add(nanos);
+      maxNanos.accumulate(nanos);
+    }
+
+    /** @return upper bound in ms of the bucket holding the given percentile */
+    private long percentile(double percentile, long total) {
+      long target = (long) Math.ceil(total * percentile);
+      long seen = 0;
+
+      for (int i = 0; i < buckets.length; i++) {
+        seen += buckets[i].sum();
+        if (seen >= target && i < buckets.length - 1) return BUCKET_BOUNDS_MS[i];
+      }
+      return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+    }
+
+    private String summary(String name) {
+      long total = count.sum();
+
+      return format(
+          "* %s -> count: [%d] mean: [%d] p50: [<=%d] p95: [<=%d] max: [%d]%n",
+          name,
+          total,
+          TimeUnit.NANOSECONDS.toMillis(totalNanos.sum() / Math.max(total, 1)),
+          percentile(0.50, total),
+          percentile(0.95, total),
+          TimeUnit.NANOSECONDS.toMillis(maxNanos.get()));
+    }
+  }
+}
@@ -1,10 +1,16 @@
 package core.utilities;
 
+import core.setup.Config;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.text.CaseUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebElement;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -17,13 +23,34 @@ public class Tools {
     throw new IllegalStateException("Utility Class");
   }
 
+  private static final ClassValue<Logger> LOGGERS =
+      new ClassValue<Logger>() {
+        @Override
+        protected Logger computeValue(Class<?> type) {
+          return LogManager.getLogger(type);
+        }
+      };
+
+  /**
+   * logger for a class. The logger is created once per class, so keep it in a static field:
+   * {@code private static final Logger logger = logger(MyClass.class);}
+   *
+   * @param type class to log as
+   * @return the cached logger of the class
+   */
+  public static Logger logger(Class<?> type) {
+    return LOGGERS.get(type);
+  }
+
   /**
    * logger method that will get the current class where used. Chain off this for other log options
    *
    * @return the declaring class to log with
+   * @deprecated walks the stack on every call. Use {@link #logger(Class)} in a static field
    */
+  @Deprecated
   public static Logger logger() {
-    String declaringClass = Thread.currentThread().getStackTrace()[2].getClassName();
+    String declaringClass = new Throwable().getStackTrace()[1].getClassName();
     return LogManager.getLogger(declaringClass);
   }
 
@@ -87,13 +114,44 @@ public class Tools {
   }
 
   /**
-   * builds string list from element list
+   * reads a text resource from the classpath, such as the scripts under /js
+   *
+   * @param resource absolute path of the resource
+   * @return content of the resource read as UTF-8
+   */
+  public static String readResource(String resource) {
+    try (InputStream stream = Tools.class.getResourceAsStream(resource)) {
+      if (stream == null) throw new IllegalStateException(border("[%s] was not found", resource));
+      return IOUtils.toString(stream, StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * builds string list from element list. Lists of -DbulkReadThreshold elements or more are read
+   * with one script call
    *
    * @param elements list of elements to build string list from
    * @return bulit string list
    */
   public static List<String> buildStringListFromElemList(List<WebElement> elements) {
-    return elements.stream().map(WebElement::getText).distinct().collect(Collectors.toList());
+    return buildStringListFromElemList(elements, Config.BULK_READ_THRESHOLD);
+  }
+
+  /**
+   * builds string list from element list. Lists with at least bulkReadThreshold elements are read
+   * with one script call
+   *
+   * @param elements list of elements to build string list from
+   * @param bulkReadThreshold smallest list read with one script call. Less than 1 reads per element
+   * @return bulit string list
+   */
+  public static List<String> buildStringListFromElemList(
+      List<WebElement> elements, int bulkReadThreshold) {
+    return ElementReads.texts(elements, bulkReadThreshold).stream()
+        .distinct()
+        .collect(Collectors.toList());
   }
 
   /**
@@ -0,0 +1,114 @@
+package core.utilities;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static core.utilities.Tools.border;
+
+/**
+ * Total time the waits of one scenario may take. Every wait asks for its timeout and gets what is
+ * left of the budget at most, so a scenario with many waits can not run far past the budget. Only
+ * time spent inside waits counts, the rest of the scenario does not draw from the budget. Once it
+ * is used up the scenario fails with a breakdown of the waits it spent its time on. Budgets are
+ * kept per thread. Threads without a started budget wait without a limit.
+ */
+public class WaitBudget {
+  private static final ThreadLocal<WaitBudget> BUDGETS = new ThreadLocal<>();
+
+  private final long budgetNanos;
+  private final Map<String, long[]> spent = new LinkedHashMap<>();
+  private long spentNanos = 0;
+
+  private WaitBudget(long budgetNanos) {
+    this.budgetNanos = budgetNanos;
+  }
+
+  /**
+   * starts a budget for the scenario on the current thread
+   *
+   * @param seconds total seconds the waits of the scenario may take. 0 or less is no limit
+   */
+  public static void start(long seconds) {
+    if (seconds > 0) {
+      BUDGETS.set(new WaitBudget(TimeUnit.SECONDS.toNanos(seconds)));
+    } else {
+      BUDGETS.remove();
+    }
+  }
+
+  /** @return total time spent waiting by the scenario on the current thread in nanoseconds */
+  public static long clear() {
+    WaitBudget budget = BUDGETS.get();
+    BUDGETS.remove();
+    return budget == null ? 0 : budget.spentNanos;
+  }
+
+  /**
+   * @param label what is waited for
+   * @param timeout timeout the wait asked for
+   * @return the timeout or what is left of the budget if that is less
+   * @throws IllegalStateException if the budget is used up
+   */
+  public static Duration allow(String label, Duration timeout) {
+    WaitBudget budget = BUDGETS.get();
+    if (budget == null) return timeout;
+
+    long remaining = budget.budgetNanos - budget.spentNanos;
+    if (remaining <= 0) throw exceeded(label);
+
+    return remaining < timeout.toNanos() ? Duration.ofNanos(remaining) : timeout;
+  }
+
+  /**
+   * records time a wait took against the budget
+   *
+   * @param label what was waited for. Waits with the same label are added up in the breakdown
+   * @param nanos time waited
+   */
+  public static void spend(String label, long nanos) {
+    WaitBudget budget = BUDGETS.get();
+    if (budget == null) return;
+
+    long[] wait = budget.spent.computeIfAbsent(label, key -> new long[2]);
+    wait[0]++;
+    wait[1] += nanos;
+    budget.spentNanos += nanos;
+  }
+
+  /**
+   * @param label wait that ran out of budget
+   * @return exception to fail the scenario with, listing where the budget was spent
+   */
+  public static IllegalStateException exceeded(String label) {
+    WaitBudget budget = BUDGETS.get();
+    long budgetSeconds = budget == null ? 0 : TimeUnit.NANOSECONDS.toSeconds(budget.budgetNanos);
+
+    return new IllegalStateException(
+        border(
+            "Scenario wait budget of [%ss] was used up while waiting for [%s]. "
+                + "Increase -DscenarioWaitBudget if the scenario needs more time%n%s",
+            budgetSeconds, label, breakdown(budget)));
+  }
+
+  private static String breakdown(WaitBudget budget) {
+    if (budget == null || budget.spent.isEmpty()) return "No waits were recorded";
+
+    List<Map.Entry<String, long[]>> waits = new ArrayList<>(budget.spent.entrySet());
+    waits.sort((a, b) -> Long.compare(b.getValue()[1], a.getValue()[1]));
+
+    StringBuilder builder = new StringBuilder("Time spent waiting:");
+    for (Map.Entry<String, long[]> wait : waits) {
+      builder.append(
+          String.format(
+              "%n* %s -> waits: [%s] total: [%sms]",
+              wait.getKey(),
+              wait.getValue()[0],
+              TimeUnit.NANOSECONDS.toMillis(wait.getValue()[1])));
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,14 @@
+// collects everything needed to debug a failed scenario in one round trip
+return {
+  url: location.href,
+  title: document.title,
+  userAgent: navigator.userAgent,
+  viewport: {
+    width: window.innerWidth,
+    height: window.innerHeight,
+    devicePixelRatio: window.devicePixelRatio,
+    scrollX: window.pageXOffset,
+    scrollY: window.pageYOffset
+  },
+  dom: document.documentElement ? document.documentElement.outerHTML : ''
+};
@@ -0,0 +1,21 @@
+// reads the text, an attribute or the visibility of every element in one round trip. ElementReads
+// puts Selenium's isDisplayed and getAttribute atoms in front of this script as isDisplayed(e) and
+// getAttribute(e, name), the same atoms WebElement isDisplayed and getAttribute run per element.
+// Text is the innerText of displayed elements as the getText atom is not bundled with the driver.
+var elements = arguments[0];
+var read = arguments[1];
+var attribute = arguments[2];
+
+function text(e) {
+  if (!isDisplayed(e)) return '';
+  return (e.innerText || '').replace(/\u00a0/g, ' ').trim();
+}
+
+function attributeOf(e) {
+  return getAttribute(e, attribute);
+}
+
+var readers = {text: text, attribute: attributeOf, visible: isDisplayed};
+var values = [];
+for (var i = 0; i < elements.length; i++) values.push(readers[read](elements[i]));
+return values;
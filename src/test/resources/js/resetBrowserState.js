@@ -0,0 +1,59 @@
+/*
+ * Clears the browser state of the current origin in a single round trip. Run with
+ * executeAsyncScript. arguments[0] true also expires every cookie that is visible to scripts.
+ */
+var clearCookies = arguments[0];
+var done = arguments[arguments.length - 1];
+
+try { window.sessionStorage.clear(); } catch (ignored) {}
+try { window.localStorage.clear(); } catch (ignored) {}
+
+if (clearCookies) {
+  var expired = '=; expires=Thu, 01 Jan 1970 00:00:00 GMT; path=';
+  var segments = location.pathname.split('/');
+
+  document.cookie.split(';').forEach(function (cookie) {
+    var name = cookie.split('=')[0].trim();
+
+    for (var i = segments.length; i > 0; i--) {
+      var path = segments.slice(0, i).join('/') || '/';
+      var domain = location.hostname.split('.');
+
+      // host only cookies can only be expired without a domain attribute
+      document.cookie = name + expired + path;
+      while (domain.length > 1) {
+        document.cookie = name + expired + path + '; domain=' + domain.join('.');
+        domain.shift();
+      }
+    }
+  });
+}
+
+if (!window.Promise) {
+  done(true);
+} else {
+  var tasks = [];
+
+  try {
+    if (window.indexedDB && indexedDB.databases) {
+      tasks.push(indexedDB.databases().then(function (databases) {
+        return Promise.all(databases.map(function (database) {
+          return new Promise(function (resolve) {
+            var request = indexedDB.deleteDatabase(database.name);
+            request.onsuccess = request.onerror = request.onblocked = resolve;
+          });
+        }));
+      }));
+    }
+  } catch (ignored) {}
+
+  try {
+    if (window.caches) {
+      tasks.push(caches.keys().then(function (keys) {
+        return Promise.all(keys.map(function (key) { return caches.delete(key); }));
+      }));
+    }
+  } catch (ignored) {}
+
+  Promise.all(tasks).then(function () { done(true); }, function () { done(false); });
+}
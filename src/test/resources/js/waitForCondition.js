@@ -0,0 +1,96 @@
+// waits in the page for a condition and calls done once, when it is met or the timeout is reached.
+// The condition is checked on every DOM mutation and on an interval for changes that are not
+// mutations, such as css transitions.
+var condition = arguments[0];
+var element = arguments[1];
+var type = arguments[2];
+var selector = arguments[3];
+var attribute = arguments[4];
+var value = arguments[5];
+var timeout = arguments[6];
+var done = arguments[arguments.length - 1];
+
+function find(all) {
+  var found = [];
+
+  if (!type) {
+    found = element ? [element] : [];
+  } else if (type === 'css') {
+    found = document.querySelectorAll(selector);
+  } else if (type === 'xpath') {
+    var result = document.evaluate(
+        selector, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+    for (var i = 0; i < result.snapshotLength; i++) found.push(result.snapshotItem(i));
+  } else if (type === 'id') {
+    var byId = document.getElementById(selector);
+    found = byId ? [byId] : [];
+  } else if (type === 'className') {
+    found = document.getElementsByClassName(selector);
+  } else if (type === 'name') {
+    found = document.getElementsByName(selector);
+  } else if (type === 'tagName') {
+    found = document.getElementsByTagName(selector);
+  }
+  return all ? found : found[0];
+}
+
+function isVisible(e) {
+  if (!e || !document.documentElement.contains(e)) return false;
+
+  var style = window.getComputedStyle(e);
+  if (style.visibility === 'hidden' || style.opacity === '0') return false;
+
+  var rect = e.getBoundingClientRect();
+  return rect.width > 0 && rect.height > 0;
+}
+
+function attributeContains(e) {
+  if (!e) return false;
+
+  var actual = e.getAttribute(attribute);
+  if (actual == null && attribute in e) actual = e[attribute];
+  return actual != null && String(actual).indexOf(value) >= 0;
+}
+
+var conditions = {
+  visible: function () { return isVisible(find(false)); },
+  invisible: function () { return !isVisible(find(false)); },
+  attributeContains: function () { return attributeContains(find(false)); },
+  attributeNotContains: function () {
+    var e = find(false);
+    return !!e && !attributeContains(e);
+  },
+  textPresent: function () {
+    var e = find(false);
+    return !!e && (e.innerText || e.textContent || '').indexOf(value) >= 0;
+  },
+  listNotEmpty: function () { return find(true).length > 0; }
+};
+
+function check() {
+  try {
+    return conditions[condition]();
+  } catch (e) {
+    return false;
+  }
+}
+
+if (check()) {
+  done(true);
+} else {
+  var finished = false;
+  var observer = new MutationObserver(function () { if (check()) finish(true); });
+  var interval = setInterval(function () { if (check()) finish(true); }, 250);
+  var timer = setTimeout(function () { finish(false); }, timeout);
+
+  var finish = function (result) {
+    if (finished) return;
+    finished = true;
+    observer.disconnect();
+    clearInterval(interval);
+    clearTimeout(timer);
+    done(result);
+  };
+
+  observer.observe(document, {subtree: true, childList: true, attributes: true, characterData: true});
+}